@@ -0,0 +1,155 @@
+"""
+Load benchmark for the candidate apply and interview-answer endpoints.
+
+Measures /candidates/apply/{jobId} and /candidates/{applicationId}/submit at a
+fixed client concurrency against a running backend whose model services are
+the stubs from stub_model_services.py. Run it once per threading mode and
+compare the reports:
+
+    python3 stub_model_services.py --latency 0.5 &
+    mvn spring-boot:run
+    python3 load_test.py --label platform
+    mvn spring-boot:run -Dspring-boot.run.profiles=virtual-threads
+    python3 load_test.py --label virtual
+
+Keep the concurrency above server.tomcat.threads.max (200 by default) to see
+the request thread pool cap in platform mode. The model bulkheads
+(model.<service>.max-concurrent-calls) still bound concurrent model calls in
+both modes, so raise them for the chatbot when testing submit at high
+concurrency, e.g. --model.chatbot.max-concurrent-calls=512.
+"""
+
+import argparse
+import json
+import statistics
+import time
+import urllib.error
+import urllib.request
+import uuid
+from concurrent.futures import ThreadPoolExecutor
+
+
+class Client:
+    def __init__(self, base_url, token=None):
+        self.base_url = base_url
+        self.token = token
+
+    def request(self, method, path, body=None, content_type="application/json"):
+        headers = {}
+        if self.token:
+            headers["Authorization"] = "Bearer " + self.token
+        if body is not None:
+            headers["Content-Type"] = content_type
+            if content_type == "application/json":
+                body = json.dumps(body).encode()
+        req = urllib.request.Request(self.base_url + path, data=body, headers=headers, method=method)
+        with urllib.request.urlopen(req, timeout=120) as response:
+            raw = response.read()
+            return json.loads(raw) if raw and raw[:1] in b"{[" else raw.decode()
+
+    def login(self, kind, email, password):
+        self.token = self.request("POST", f"/{kind}/login", {"email": email, "password": password})["token"]
+
+
+def multipart(field, filename, content):
+    boundary = uuid.uuid4().hex
+    body = (
+        f"--{boundary}\r\n"
+        f'Content-Disposition: form-data; name="{field}"; filename="{filename}"\r\n'
+        "Content-Type: text/plain\r\n\r\n"
+    ).encode() + content + f"\r\n--{boundary}--\r\n".encode()
+    return body, "multipart/form-data; boundary=" + boundary
+
+
+def setup(base_url, candidates):
+    run = uuid.uuid4().hex[:8]
+    password = "Benchmark1!"
+
+    recruiter = Client(base_url)
+    recruiter_email = f"recruiter-{run}@bench.local"
+    recruiter.request("POST", "/recruiters/register/recruiter", {
+        "email": recruiter_email, "password": password, "consentGiven": True,
+        "companyName": "Bench Co", "companySize": 100, "industry": "Software", "location": "Dublin, Ireland",
+    })
+    recruiter.login("recruiters", recruiter_email, password)
+    job = recruiter.request("POST", "/recruiters/jobs", {
+        "title": "Backend Engineer", "description": "Load test job", "location": "Dublin, Ireland",
+        "salaryRange": "50-70k", "workType": "Full-time", "recruitmentStrategy": "1",
+        "requiredSkills": ["Java", "Spring", "SQL"], "preferredQualifications": ["Docker"],
+    })
+
+    def register(i):
+        client = Client(base_url)
+        email = f"candidate-{run}-{i}@bench.local"
+        client.request("POST", "/candidates/register", {
+            "email": email, "password": password, "consentGiven": True, "name": f"Candidate {i}",
+            "location": "Dublin, Ireland", "educationLevel": "Bachelor's", "yearsOfExperience": i % 10,
+            "previousCompanies": i % 4, "preferredJobTypes": "Full-time", "availability": "Immediate",
+            "skills": ["Java", "SQL"], "gender": "Unknown", "age": 30,
+        })
+        client.login("candidates", email, password)
+        return client
+
+    with ThreadPoolExecutor(max_workers=32) as pool:
+        clients = list(pool.map(register, range(candidates)))
+    return job["id"], clients
+
+
+def timed(call):
+    start = time.perf_counter()
+    try:
+        result = call()
+        return time.perf_counter() - start, result, None
+    except (urllib.error.URLError, OSError, ValueError) as e:
+        return time.perf_counter() - start, None, e
+
+
+def phase(name, label, calls, concurrency):
+    start = time.perf_counter()
+    with ThreadPoolExecutor(max_workers=concurrency) as pool:
+        results = list(pool.map(timed, calls))
+    elapsed = time.perf_counter() - start
+
+    latencies = sorted(latency for latency, _, error in results if error is None)
+    errors = sum(1 for _, _, error in results if error is not None)
+    if latencies:
+        quantiles = statistics.quantiles(latencies, n=100) if len(latencies) > 1 else latencies * 99
+        print(f"[{label}] {name}: {len(latencies)} ok, {errors} failed, "
+              f"{len(latencies) / elapsed:.1f} req/s, "
+              f"p50 {quantiles[49] * 1000:.0f} ms, p95 {quantiles[94] * 1000:.0f} ms, "
+              f"p99 {quantiles[98] * 1000:.0f} ms")
+    else:
+        print(f"[{label}] {name}: all {errors} requests failed")
+    return [result for _, result, error in results if error is None]
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--candidates", type=int, default=400, help="one application per candidate")
+    parser.add_argument("--concurrency", type=int, default=400, help="concurrent client requests")
+    parser.add_argument("--label", default="run", help="name of the threading mode under test")
+    args = parser.parse_args()
+
+    job_id, clients = setup(args.base_url, args.candidates)
+
+    def apply(client, i):
+        body, content_type = multipart("resume", f"resume{i}.txt", f"Candidate {i}: Java, Spring, SQL".encode())
+        return lambda: (client, client.request("POST", f"/candidates/apply/{job_id}", body, content_type))
+
+    applied = phase("apply", args.label, [apply(c, i) for i, c in enumerate(clients)], args.concurrency)
+
+    # Each candidate gets a pending question before answers are timed
+    sessions = [(client, response["application"]["id"]) for client, response in applied]
+    with ThreadPoolExecutor(max_workers=32) as pool:
+        list(pool.map(lambda s: s[0].request("POST", f"/candidates/start?applicationId={s[1]}"), sessions))
+
+    def submit(client, application_id):
+        return lambda: client.request("POST", f"/candidates/{application_id}/submit",
+                                      {"response": "I would use a token bucket per client."})
+
+    phase("submit", args.label, [submit(c, a) for c, a in sessions], args.concurrency)
+
+
+if __name__ == "__main__":
+    main()
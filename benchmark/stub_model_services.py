@@ -0,0 +1,148 @@
+"""
+Stub model services for load testing the Spring Boot backend.
+
+Serves canned responses in the same shape as the Flask APIs in
+src/main/AI/Training/API on their usual ports, after a fixed delay that
+stands in for model latency. Only the standard library is used, so the stubs
+start instantly and never become the bottleneck themselves.
+
+    python3 stub_model_services.py --latency 0.5
+"""
+
+import argparse
+import json
+import random
+import threading
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+PORTS = {
+    "hiring": 5000,
+    "resume": 5001,
+    "bias": 5002,
+    "workforce": 5003,
+    "chatbot": 5004,
+}
+
+
+def screen_resume():
+    confidence = random.uniform(50, 99)
+    relevance = random.uniform(0, 100)
+    return {
+        "resume_score": int(confidence * 0.7 + relevance * 0.3),
+        "predicted_category": "Software Engineer",
+        "confidence": confidence,
+        "relevance_score": relevance,
+        "matched_skills": ["Java"],
+    }
+
+
+def screen_resume_batch(body):
+    # One result per uploaded file; the multipart body is not parsed
+    count = max(body.count(b'name="resumes"'), 1)
+    return {"results": [screen_resume() for _ in range(count)]}
+
+
+def generate_question(request):
+    if request.get("technical_count", 0) < 3:
+        return {"question": "How would you design a rate limiter?", "question_type": "technical"}
+    if request.get("behavioral_count", 0) < 2:
+        return {"question": "Tell me about a difficult teammate.", "question_type": "behavioral"}
+    return {"message": "Interview completed"}
+
+
+def conduct_interview(request):
+    score = random.uniform(40, 95)
+    return {
+        "question": request.get("question"),
+        "expected_answer": "A stub answer.",
+        "candidate_response": request.get("response"),
+        "sentiment_score": 0.5,
+        "similarity_score": score / 100,
+        "overall_score": score,
+        "question_type": request.get("question_type", "technical"),
+    }
+
+
+def analyze_bias(request):
+    return {
+        "bias_score_gender": random.uniform(-1, 1),
+        "bias_score_age": random.uniform(-1, 1),
+        "predicted_decision": random.randint(0, 1),
+        "bias_detected": False,
+        "model_version": "stub",
+        "message": "Bias analysis completed.",
+    }
+
+
+def respond(path, raw):
+    if path == "/screen_resume":
+        return screen_resume()
+    if path == "/screen_resume_batch":
+        return screen_resume_batch(raw)
+    if path == "/predict":
+        return {"predicted_hires": random.randint(0, 10), "predicted_turnover": random.uniform(0, 0.3),
+                "skills_demand": {"Java": random.randint(0, 10)}}
+    request = json.loads(raw or b"{}")
+    if path == "/match_skills":
+        return {"skill_match_score": random.randint(0, 100), "matched_skills": []}
+    if path == "/analyze_bias":
+        return analyze_bias(request)
+    if path == "/generate_question":
+        return generate_question(request)
+    if path == "/conduct_interview":
+        return conduct_interview(request)
+    if path == "/predict_workforce":
+        return {"predicted_workforce": [float(random.randint(0, 10)) for _ in range(12)]}
+    return None
+
+
+def make_handler(latency):
+    class Handler(BaseHTTPRequestHandler):
+        protocol_version = "HTTP/1.1"  # keep-alive, as the pooled client expects
+
+        def do_GET(self):
+            payload = {"model_version": "stub"} if self.path == "/model_version" else None
+            self.send_json(payload)
+
+        def do_POST(self):
+            raw = self.rfile.read(int(self.headers.get("Content-Length", 0)))
+            time.sleep(latency)
+            self.send_json(respond(self.path, raw))
+
+        def send_json(self, payload):
+            status = 200 if payload is not None else 404
+            body = json.dumps(payload if payload is not None else {"error": "Unknown path"}).encode()
+            self.send_response(status)
+            self.send_header("Content-Type", "application/json")
+            self.send_header("Content-Length", str(len(body)))
+            self.end_headers()
+            self.wfile.write(body)
+
+        def log_message(self, format, *args):
+            pass
+
+    return Handler
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("--latency", type=float, default=0.5, help="seconds each model call takes")
+    args = parser.parse_args()
+
+    servers = []
+    for name, port in PORTS.items():
+        server = ThreadingHTTPServer(("localhost", port), make_handler(args.latency))
+        server.daemon_threads = True
+        threading.Thread(target=server.serve_forever, daemon=True).start()
+        servers.append(server)
+        print(f"{name} stub listening on port {port}")
+    try:
+        threading.Event().wait()
+    except KeyboardInterrupt:
+        for server in servers:
+            server.shutdown()
+
+
+if __name__ == "__main__":
+    main()
@@ -95,7 +95,7 @@ const CandidateWelcome = ({ auth }) => {
         params: { keyword: searchQuery },
         headers: { Authorization: `Bearer ${auth.token}` },
       });
-      setSearchResults(res.data);
+      setSearchResults(res.data.items);
     } catch (err) {
       setError((prev) => ({ ...prev, search: 'Search failed. Please try again.' }));
       console.error('Search error:', err);
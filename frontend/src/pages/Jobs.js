@@ -12,6 +12,8 @@ const Jobs = ({ auth }) => {
     workType: '',
     salaryRange: '',
   });
+  const [nextCursor, setNextCursor] = useState(null);
+  const [activeQuery, setActiveQuery] = useState(null);
   const [error, setError] = useState(null);
   const navigate = useNavigate();
 
@@ -21,8 +23,9 @@ const Jobs = ({ auth }) => {
         const res = await api.get('/candidates/All-jobs', {
           headers: { Authorization: `Bearer ${auth.token}` },
         });
-        setJobs(res.data);
-        setFilteredJobs(res.data);
+        setJobs(res.data.items);
+        setFilteredJobs(res.data.items);
+        setNextCursor(res.data.nextCursor);
       } catch (err) {
         setError(err.response?.data?.error || 'Failed to fetch jobs');
         console.error(err);
@@ -42,7 +45,9 @@ const Jobs = ({ auth }) => {
         params: filters,
         headers: { Authorization: `Bearer ${auth.token}` },
       });
-      setFilteredJobs(res.data);
+      setFilteredJobs(res.data.items);
+      setNextCursor(res.data.nextCursor);
+      setActiveQuery(filters);
       setError(null);
     } catch (err) {
       setError(err.response?.data?.error || 'Failed to filter jobs');
@@ -51,6 +56,21 @@ const Jobs = ({ auth }) => {
     }
   };
 
+  const loadMore = async () => {
+    try {
+      const url = activeQuery ? '/candidates/jobs/search' : '/candidates/All-jobs';
+      const res = await api.get(url, {
+        params: { ...(activeQuery || {}), cursor: nextCursor },
+        headers: { Authorization: `Bearer ${auth.token}` },
+      });
+      setFilteredJobs((prev) => [...prev, ...res.data.items]);
+      setNextCursor(res.data.nextCursor);
+    } catch (err) {
+      setError(err.response?.data?.error || 'Failed to load more jobs');
+      console.error(err);
+    }
+  };
+
   const handleApplyJob = (jobId) => {
     navigate(`/apply/${jobId}`); 
   };
@@ -127,6 +147,11 @@ const Jobs = ({ auth }) => {
           ) : (
             <p>No jobs match your filters.</p>
           )}
+          {nextCursor && (
+            <button onClick={loadMore} className="btn">
+              Load more
+            </button>
+          )}
         </div>
       </div>
     </div>
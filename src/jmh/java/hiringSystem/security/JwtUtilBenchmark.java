@@ -0,0 +1,93 @@
+/**
+ * JwtUtilBenchmark.java
+ * Tokens verified per second by JwtUtil, before and after the signing key and
+ * parser were built once. Before, every JwtUtil call derived the key and
+ * built a parser, and a request verified its token twice (email, then role
+ * and expiry); now a request verifies it once with the shared parser.
+ * Run with: mvn -Pjmh test-compile exec:exec
+ */
+
+package hiringSystem.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    // HS512 needs at least 64 bytes of key
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET);
+        token = jwtUtil.generateToken("candidate@example.com", "CANDIDATE", 1L);
+    }
+
+    /**
+     * One verification with a key and parser built for the call, as every
+     * JwtUtil method did before
+     */
+    @Benchmark
+    public Claims perCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * One verification with the prebuilt key and parser
+     */
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtUtil.parse(token);
+    }
+
+    /**
+     * A request before: extractEmail, then validateToken, each with its own
+     * key and parser
+     */
+    @Benchmark
+    public void requestBefore(Blackhole blackhole) {
+        blackhole.consume(perCallParser().getSubject());
+        blackhole.consume(perCallParser().getExpiration());
+    }
+
+    /**
+     * A request now: one parse for subject, role and uid
+     */
+    @Benchmark
+    public void requestAfter(Blackhole blackhole) {
+        Claims claims = jwtUtil.parse(token);
+        blackhole.consume(claims.getSubject());
+        blackhole.consume(claims.get("role", String.class));
+        blackhole.consume(claims.get("uid", Number.class));
+    }
+}
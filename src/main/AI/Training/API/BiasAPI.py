@@ -7,6 +7,7 @@ from aif360.datasets import BinaryLabelDataset
 from aif360.algorithms.preprocessing import Reweighing
 from aif360.metrics import ClassificationMetric
 import numpy as np
+import hashlib
 
 app = Flask(__name__)
 #logging.basicConfig(level=logging.INFO)
@@ -15,6 +16,16 @@ app = Flask(__name__)
 model = joblib.load(os.path.join(os.path.dirname(__file__), "TrainedModels", "bias_model.pkl"))
 scaler = joblib.load(os.path.join(os.path.dirname(__file__), "TrainedModels", "scaler.pkl"))
 
+# Changes whenever the model or scaler is retrained; clients drop cached results on change
+def model_version():
+    digest = hashlib.sha256()
+    for name in ("bias_model.pkl", "scaler.pkl"):
+        with open(os.path.join(os.path.dirname(__file__), "TrainedModels", name), "rb") as f:
+            digest.update(f.read())
+    return digest.hexdigest()[:16]
+
+MODEL_VERSION = model_version()
+
 EXPECTED_COLUMNS = [
     'Age', 'ExperienceYears', 'PreviousCompanies', 'DistanceFromCompany',
     'InterviewScore', 'SkillScore', 'PersonalityScore', 'Gender', 
@@ -43,6 +54,10 @@ def preprocess_candidate_data(candidate_data):
     df = df[EXPECTED_COLUMNS]
     return df
 
+@app.route('/model_version', methods=['GET'])
+def get_model_version():
+    return jsonify({"model_version": MODEL_VERSION})
+
 @app.route('/analyze_bias', methods=['POST'])
 def analyze_bias(): 
     try:
@@ -87,6 +102,7 @@ def analyze_bias():
             "bias_score_age": bias_score_age,
             "predicted_decision": int(prediction),
             "bias_detected": bias_detected,
+            "model_version": MODEL_VERSION,
             "message": "Bias analysis completed."
         })
 
@@ -57,6 +57,19 @@ def predict_category(text):
     predicted_label = torch.argmax(logits, dim=1).item()
     return label_encoder.inverse_transform([predicted_label])[0], confidence
 
+def predict_categories(texts, batch_size=32):
+    # One padded forward pass per batch instead of one per resume
+    results = []
+    for start in range(0, len(texts), batch_size):
+        inputs = tokenizer(texts[start:start + batch_size], return_tensors="pt", truncation=True, padding=True, max_length=512)
+        with torch.no_grad():
+            logits = model(**inputs).logits
+        probabilities = torch.nn.functional.softmax(logits, dim=1)
+        confidences = (torch.max(probabilities, dim=1).values * 100).tolist()
+        labels = label_encoder.inverse_transform(torch.argmax(logits, dim=1).tolist())
+        results.extend(zip(labels, confidences))
+    return results
+
 def calculate_job_relevance(entities, required_skills, preferred_qualifications):
     resume_skills = [s.lower() for s in entities.get("WORK_OF_ART", "").split(", ")]
     required_skills = [s.lower() for s in required_skills]
@@ -108,6 +121,52 @@ def screen_resume():
     except Exception as e:
         return jsonify({"error": str(e)}), 500
 
+@app.route('/screen_resume_batch', methods=['POST'])
+def screen_resume_batch():
+    try:
+        files = request.files.getlist('resumes')
+        required_skills = request.form.getlist("required_skills[]")
+        preferred_qualifications = request.form.getlist("preferred_qualifications[]")
+        if not files:
+            return jsonify({"error": "No resumes provided"}), 400
+
+        # Extract and preprocess each resume; a bad file only fails its own entry
+        processed = []
+        errors = {}
+        for index, file in enumerate(files):
+            try:
+                filename = file.filename.lower()
+                if filename.endswith(".pdf"):
+                    file_type = "pdf"
+                elif filename.endswith(".docx"):
+                    file_type = "docx"
+                else:
+                    file_type = "txt"
+                resume_text = extract_text_from_file(file, file_type)
+                processed.append((index,) + preprocess_text(resume_text))
+            except Exception as e:
+                errors[index] = str(e)
+
+        predictions = predict_categories([text for _, text, _ in processed])
+
+        results = [None] * len(files)
+        for index, error in errors.items():
+            results[index] = {"error": error}
+        for (index, _, entities), (predicted_category, confidence) in zip(processed, predictions):
+            relevance_score = calculate_job_relevance(entities, required_skills, preferred_qualifications)
+            results[index] = {
+                "resume_score": int((confidence * 0.7) + (relevance_score * 0.3)),
+                "predicted_category": predicted_category,
+                "confidence": confidence,
+                "relevance_score": relevance_score,
+                "matched_skills": list(set(entities.get("WORK_OF_ART", "").split(", ")) & set(required_skills))
+            }
+
+        return jsonify({"results": results})
+
+    except Exception as e:
+        return jsonify({"error": str(e)}), 500
+
 @app.route('/match_skills', methods=['POST'])
 def match_skills():
     try:
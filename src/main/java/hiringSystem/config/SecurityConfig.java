@@ -21,6 +21,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import hiringSystem.security.JwtAuthenticationFilter;
 import hiringSystem.security.JwtUtil;
 import hiringSystem.security.UserDetailService;
+import jakarta.servlet.DispatcherType;
 
 /**
  * Security configuration class for the application.
@@ -54,6 +55,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(management -> management.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(requests -> requests
+                        // Async dispatches resume requests already authorized on the
+                        // original dispatch, where the JWT filter ran
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/recruiters/register/recruiter", "/recruiters/login").permitAll()
                         .requestMatchers("/recruiters/**").hasRole("RECRUITER")
                         .requestMatchers("/candidates/register", "/candidates/login").permitAll()
@@ -62,6 +66,8 @@ public class SecurityConfig {
                         .requestMatchers("/jobs/public/**").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/privacy").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // Simplified
                                                                                                        // syntax
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import hiringSystem.model.AuditLog;
 import hiringSystem.model.UserRole;
 import hiringSystem.security.JwtUtil;
+import hiringSystem.security.PrincipalCache;
 import hiringSystem.service.AdminService;
 
 import java.util.List;
@@ -34,6 +35,8 @@ public class AdminController {
     private UserDetailsService userDetailsService;
     @Autowired
     private JwtUtil jwtUtil;
+    @Autowired
+    private PrincipalCache principalCache;
 
     /**
      * Register a new admin.
@@ -82,7 +85,7 @@ public class AdminController {
             if (!"admin".equalsIgnoreCase(role)) {
                 throw new IllegalArgumentException("User is not an admin.");
             }
-            String token = jwtUtil.generateToken(email, role);
+            String token = jwtUtil.generateToken(email, role, principalCache.get(email).getUserId());
             return ResponseEntity.ok(Map.of("token", token));
         } catch (Exception e) {
             return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials or not an admin"));
@@ -2,6 +2,7 @@ package hiringSystem.controller;
 
 import hiringSystem.model.*;
 import hiringSystem.security.JwtUtil;
+import hiringSystem.security.PrincipalCache;
 import hiringSystem.security.UserDetailService;
 import hiringSystem.service.CandidateService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import reactor.core.publisher.Mono;
+
 /**
  * REST controller for candidate-related endpoints.
  * This class handles all candidate-related operations such as registration,
@@ -32,6 +35,8 @@ public class CandidateController {
     @Autowired
     private JwtUtil jwtUtil;
     @Autowired
+    private PrincipalCache principalCache;
+    @Autowired
     private AuthenticationManager authenticationManager;
 
     /**
@@ -79,7 +84,6 @@ public class CandidateController {
     public ResponseEntity<Map<String, String>> login(@RequestBody Map<String, String> credentials) {
         String email = credentials.get("email");
         String password = credentials.get("password");
-        System.out.println("Login attempt: email=" + email + ", password=" + password);
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password));
@@ -87,11 +91,9 @@ public class CandidateController {
             String role = userDetails.getAuthorities().stream()
                     .map(grantedAuthority -> grantedAuthority.getAuthority().replace("ROLE_", ""))
                     .findFirst().orElse("candidate");
-            String token = jwtUtil.generateToken(email, role);
-            System.out.println("Token generated: " + token);
+            String token = jwtUtil.generateToken(email, role, principalCache.get(email).getUserId());
             return ResponseEntity.ok(Map.of("token", token));
         } catch (Exception e) {
-            System.out.println("Authentication failed: " + e.getMessage());
             return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
         }
     }
@@ -138,27 +140,36 @@ public class CandidateController {
      * @param location    the location to filter by
      * @param workType    the type of work (e.g., full-time, part-time)
      * @param salaryRange the salary range to filter by
-     * @return ResponseEntity with the list of jobs matching the criteria or an
-     *         error message
+     * @param cursor      the nextCursor returned with the previous page
+     * @param size        the number of jobs per page
+     * @return ResponseEntity with a page of jobs matching the criteria and the
+     *         cursor for the next page
      */
     @GetMapping("/jobs/search")
-    public ResponseEntity<List<JobInfo>> searchJobs(
+    public ResponseEntity<CursorPage<JobInfo>> searchJobs(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String workType,
-            @RequestParam(required = false) String salaryRange) {
-        List<JobInfo> jobs = candidateService.searchJobs(keyword, location, workType, salaryRange);
+            @RequestParam(required = false) String salaryRange,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<JobInfo> jobs = candidateService.searchJobs(keyword, location, workType, salaryRange, cursor,
+                size);
         return ResponseEntity.ok(jobs);
     }
 
     /**
      * Get all jobs
      * 
-     * @return ResponseEntity with the list of all jobs or an error message
+     * @param cursor the nextCursor returned with the previous page
+     * @param size   the number of jobs per page
+     * @return ResponseEntity with a page of jobs and the cursor for the next page
      */
     @GetMapping("/All-jobs")
-    public ResponseEntity<List<JobInfo>> getAllJobs() {
-        List<JobInfo> jobs = candidateService.getAllJobs();
+    public ResponseEntity<CursorPage<JobInfo>> getAllJobs(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<JobInfo> jobs = candidateService.getAllJobs(cursor, size);
         return ResponseEntity.ok(jobs);
     }
 
@@ -167,20 +178,33 @@ public class CandidateController {
      * 
      * @param jobId      the ID of the job to apply for
      * @param resumeFile the resume file to upload
-     * @return ResponseEntity with the application details and AI analysis or an
-     *         error message
+     * @return ResponseEntity with the application details and the screening
+     *         status or an error message
      */
     @PostMapping("/apply/{jobId}")
     public ResponseEntity<Map<String, Object>> applyForJob(
             @PathVariable Long jobId,
             @RequestParam("resume") MultipartFile resumeFile) {
         Applications application = candidateService.applyForJob(jobId, resumeFile);
-        AiData aiData = candidateService.getAIDataForApplication(application.getId())
-                .orElseThrow(() -> new RuntimeException("AI data not found"));
+        ScreeningStatus screening = candidateService.getScreeningStatus(application.getId())
+                .orElseGet(() -> new ScreeningStatus(application.getId(), ScreeningStatus.QUEUED));
 
         return ResponseEntity.ok(Map.of(
                 "application", application,
-                "aiAnalysis", aiData));
+                "screening", screening));
+    }
+
+    /**
+     * Get AI screening progress for an application
+     * 
+     * @param applicationId the ID of the application
+     * @return ResponseEntity with the screening status or not found
+     */
+    @GetMapping("/applications/{applicationId}/screening-status")
+    public ResponseEntity<ScreeningStatus> getScreeningStatus(@PathVariable Long applicationId) {
+        return candidateService.getScreeningStatus(applicationId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -213,13 +237,11 @@ public class CandidateController {
      * @return ResponseEntity with the first question or an error message
      */
     @PostMapping("/start")
-    public ResponseEntity<String> startInterview(@RequestParam Long applicationId) {
-        try {
-            String firstQuestion = candidateService.getNextQuestion(applicationId);
-            return ResponseEntity.ok(firstQuestion);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Failed to start interview: " + e.getMessage());
-        }
+    public Mono<ResponseEntity<String>> startInterview(@RequestParam Long applicationId) {
+        return candidateService.startInterview(applicationId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(
+                        ResponseEntity.badRequest().body("Failed to start interview: " + e.getMessage())));
     }
 
     /**
@@ -229,13 +251,10 @@ public class CandidateController {
      * @return ResponseEntity with the next question or an error message
      */
     @GetMapping("/{applicationId}/next-question")
-    public ResponseEntity<String> getNextQuestion(@PathVariable Long applicationId) {
-        try {
-            String question = candidateService.getNextQuestion(applicationId);
-            return ResponseEntity.ok(question);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
-        }
+    public Mono<ResponseEntity<String>> getNextQuestion(@PathVariable Long applicationId) {
+        return candidateService.getNextQuestion(applicationId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity.badRequest().body("Error: " + e.getMessage())));
     }
 
     /**
@@ -246,18 +265,15 @@ public class CandidateController {
      * @return ResponseEntity with the saved response or an error message
      */
     @PostMapping("/{applicationId}/submit")
-    public ResponseEntity<?> submitResponse(
+    public Mono<ResponseEntity<?>> submitResponse(
             @PathVariable Long applicationId,
             @RequestBody Map<String, String> request) {
-        try {
-            String response = request.get("response");
-            InterviewResponse savedResponse = candidateService.submitResponse(applicationId, response);
-            return ResponseEntity.ok(savedResponse);
-        } catch (Exception e) {
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to submit response: " + e.getMessage()));
-        }
+        String response = request.get("response");
+        return candidateService.submitResponse(applicationId, response)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to submit response: " + e.getMessage()))));
     }
 
     /**
@@ -8,11 +8,12 @@ package hiringSystem.controller;
 import hiringSystem.model.*;
 import hiringSystem.repository.ApplicationRepository;
 import hiringSystem.service.RecruiterService;
+import hiringSystem.service.ResumeDownloader;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
-import org.springframework.http.HttpHeaders;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,10 +21,13 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +35,9 @@ import java.util.Optional;
 
 import hiringSystem.security.UserDetailService;
 import hiringSystem.security.JwtUtil;
+import hiringSystem.security.PrincipalCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/recruiters")
@@ -42,11 +49,17 @@ public class RecruiterController {
     @Autowired
     private ApplicationRepository applicationsRepository;
 
+    @Autowired
+    private ResumeDownloader resumeDownloader;
+
     @Autowired
     private UserDetailService userDetailsService;
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
@@ -96,7 +109,6 @@ public class RecruiterController {
     public ResponseEntity<Map<String, String>> login(@RequestBody Map<String, String> credentials) {
         String email = credentials.get("email");
         String password = credentials.get("password");
-        System.out.println("Login attempt: email=" + email + ", password=" + password);
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password));
@@ -104,11 +116,9 @@ public class RecruiterController {
             String role = userDetails.getAuthorities().stream()
                     .map(grantedAuthority -> grantedAuthority.getAuthority().replace("ROLE_", ""))
                     .findFirst().orElse("recruiter");
-            String token = jwtUtil.generateToken(email, role);
-            System.out.println("Token generated: " + token);
+            String token = jwtUtil.generateToken(email, role, principalCache.get(email).getUserId());
             return ResponseEntity.ok(Map.of("token", token));
         } catch (Exception e) {
-            System.out.println("Authentication failed: " + e.getMessage());
             return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
         }
     }
@@ -173,6 +183,54 @@ public class RecruiterController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * Re-screen all resumes submitted to a job, e.g. after its requirements
+     * changed. Runs in the background; poll the GET endpoint for progress.
+     *
+     * @param jobId the ID of the job
+     * @return ResponseEntity with the progress of the re-screening
+     */
+    @PostMapping("/jobs/{jobId}/rescreen")
+    public ResponseEntity<RescreenProgress> rescreenJob(@PathVariable Long jobId) {
+        return ResponseEntity.accepted().body(recruiterService.rescreenJob(jobId));
+    }
+
+    /**
+     * Get the progress of the last re-screening of a job
+     *
+     * @param jobId the ID of the job
+     * @return ResponseEntity with the progress, or not found if the job was
+     *         never re-screened
+     */
+    @GetMapping("/jobs/{jobId}/rescreen")
+    public ResponseEntity<RescreenProgress> getRescreenProgress(@PathVariable Long jobId) {
+        return recruiterService.getRescreenProgress(jobId).map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get fairness analytics over the bias results of a job
+     *
+     * @param jobId the ID of the job
+     * @return ResponseEntity with bias score means and percentiles, the
+     *         bias-detected rate and the predicted decision rates
+     */
+    @GetMapping("/jobs/{jobId}/fairness")
+    public ResponseEntity<Map<String, Object>> getJobFairness(@PathVariable Long jobId) {
+        return ResponseEntity.ok(recruiterService.getJobFairness(jobId));
+    }
+
+    /**
+     * Get fairness analytics over the bias results of all the recruiter's jobs
+     *
+     * @return ResponseEntity with bias score means and percentiles, the
+     *         bias-detected rate and the predicted decision rates
+     */
+    @GetMapping("/fairness")
+    public ResponseEntity<Map<String, Object>> getFairness() {
+        return ResponseEntity.ok(recruiterService.getFairness());
+    }
+
     /**
      * Get AI data for a specific application
      * 
@@ -232,8 +290,7 @@ public class RecruiterController {
         }
         Applications application = applicationsRepository.findById(applicationId)
                 .orElseThrow(NotFoundException::new);
-        application.setStatus(status);
-        return ResponseEntity.ok(applicationsRepository.save(application));
+        return ResponseEntity.ok(recruiterService.updateApplicationStatus(application, status));
     }
 
     /**
@@ -257,6 +314,35 @@ public class RecruiterController {
         }
     }
 
+    /**
+     * Live dashboard of the current recruiter as server-sent events. Starts
+     * with the current counts and sends an update, coalesced over a short
+     * window, whenever they change or a screening completes.
+     *
+     * @return SSE stream of "metrics" events
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return recruiterService.streamDashboard();
+    }
+
+    /**
+     * Get the dashboard metrics history of the current recruiter. Only the
+     * rollup tier of the requested period is read.
+     *
+     * @param period hourly, daily, weekly or monthly
+     * @param from   earliest bucket start (ISO date-time), all history if omitted
+     * @param to     latest bucket start (ISO date-time), now if omitted
+     * @return ResponseEntity with the metrics buckets in time order
+     */
+    @GetMapping("/dashboard/history")
+    public ResponseEntity<List<MetricsRollup>> getDashboardHistory(@RequestParam String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        return ResponseEntity.ok(recruiterService.getDashboardHistory(period,
+                from != null ? from : new Date(0), to != null ? to : new Date()));
+    }
+
     /**
      * Endpoint to generate a prediction based on the uploaded CSV file.
      * 
@@ -322,29 +408,28 @@ public class RecruiterController {
     }
 
     /**
-     * Endpoint to retrieve the resume of a specific application.
+     * Endpoint to download the resume of a specific application. Streams the
+     * stored file and supports HTTP Range requests.
      * 
      * @param applicationId the ID of the application
-     * @return ResponseEntity containing the resume as a byte array resource
+     * @param request       the HTTP request
+     * @param response      the HTTP response the resume is written to
      */
     @GetMapping("/applications/{applicationId}/resume")
-    public ResponseEntity<ByteArrayResource> getApplicationResume(@PathVariable Long applicationId) {
+    public void getApplicationResume(@PathVariable Long applicationId, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         Optional<Applications> applicationOpt = applicationsRepository.findById(applicationId);
         if (applicationOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
         }
 
         Applications application = applicationOpt.get();
-        byte[] resumeData = application.getresumeByte(); // Fixed getter name
-        if (resumeData == null || resumeData.length == 0) {
-            return ResponseEntity.noContent().build();
+        if (application.getResumeHash() == null) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
         }
-
-        ByteArrayResource resource = new ByteArrayResource(resumeData);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=resume.pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .contentLength(resumeData.length)
-                .body(resource);
+        resumeDownloader.download(application.getResumeHash(), application.getResumeFileType(), request,
+                response);
     }
 }
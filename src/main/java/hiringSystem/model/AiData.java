@@ -17,6 +17,7 @@ public class AiData {
     private int overallScore;
     private String aiFeedback;
     private int personalityScore;
+    private boolean rescorePending; // scored with local fallbacks while a model was unavailable
 
     public AiData(Applications application, int resumeScore, int interviewScore, int skillMatchScore,
             String biasDetectionResult, int overallScore, String aiFeedback, int personalityScore) {
@@ -38,6 +39,10 @@ public class AiData {
     @JoinColumn(name = "applicationId", referencedColumnName = "id")
     private Applications application;
 
+    @ManyToOne
+    @JoinColumn(name = "screeningResultId", referencedColumnName = "id")
+    private ScreeningResult screeningResult; // shared resume screening output
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -110,4 +115,20 @@ public class AiData {
     public void setPersonalityScore(int personalityScore) {
         this.personalityScore = personalityScore;
     }
-}
\ No newline at end of file
+
+    public ScreeningResult getScreeningResult() {
+        return screeningResult;
+    }
+
+    public void setScreeningResult(ScreeningResult screeningResult) {
+        this.screeningResult = screeningResult;
+    }
+
+    public boolean isRescorePending() {
+        return rescorePending;
+    }
+
+    public void setRescorePending(boolean rescorePending) {
+        this.rescorePending = rescorePending;
+    }
+}
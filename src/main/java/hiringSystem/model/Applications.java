@@ -19,18 +19,21 @@ public class Applications {
     @JoinColumn(name = "candidateId", referencedColumnName = "user_id")
     private UserProfile candidate;
 
-    private byte[] resumeByte; // resumeURL string
+    @Column(length = 64)
+    private String resumeHash; // ResumeStore key (SHA-256 of the resume)
+    private String resumeFileType; // "pdf", "docx" or "txt"
     private String status = "Under Review"; // "Under Review", "Shortlisted", "Rejected"
     private Date applicationDate;
     private int aiScore; // AI-generated score for the candidate
     private String feedback; // feedback
     private Date hireDate;
 
-    public Applications(JobInfo job, UserProfile candidate, byte[] resumeByte,
+    public Applications(JobInfo job, UserProfile candidate, String resumeHash, String resumeFileType,
             String status, Date applicationDate, int aiScore, String feedback, Date hireDate) {
         this.job = job;
         this.candidate = candidate;
-        this.resumeByte = resumeByte;
+        this.resumeHash = resumeHash;
+        this.resumeFileType = resumeFileType;
         this.status = status;
         this.applicationDate = applicationDate;
         this.aiScore = aiScore;
@@ -62,12 +65,20 @@ public class Applications {
         this.candidate = candidate;
     }
 
-    public byte[] getresumeByte() {
-        return resumeByte;
+    public String getResumeHash() {
+        return resumeHash;
     }
 
-    public void setresumeByte(byte[] resumeBytes) {
-        this.resumeByte = resumeBytes;
+    public void setResumeHash(String resumeHash) {
+        this.resumeHash = resumeHash;
+    }
+
+    public String getResumeFileType() {
+        return resumeFileType;
+    }
+
+    public void setResumeFileType(String resumeFileType) {
+        this.resumeFileType = resumeFileType;
     }
 
     public String getStatus() {
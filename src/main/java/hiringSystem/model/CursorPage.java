@@ -0,0 +1,38 @@
+package hiringSystem.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * nextCursor is the id to pass back as the cursor for the following page, or
+ * null when there are no more results.
+ */
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.util.Date;
 
 @Entity
-@Table(name = "dashboard_metrics")
+// One row per recruiter and period start
+@Table(name = "dashboard_metrics", uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_metrics_recruiter_period",
+        columnNames = { "recruiter_id", "metric_date" }))
 public class Dashboard {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
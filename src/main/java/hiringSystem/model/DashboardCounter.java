@@ -0,0 +1,47 @@
+package hiringSystem.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Running application counts of one recruiter, updated as applications are
+ * created, change status or are deleted. Dashboard metrics are snapshots of
+ * these counts.
+ */
+@Entity
+@Table(name = "dashboard_counters")
+public class DashboardCounter {
+    @Id
+    @Column(name = "recruiter_id")
+    private Long recruiterId;
+
+    private long totalApplications;
+    private long shortlistedCandidates;
+
+    public DashboardCounter() {
+    }
+
+    // Getters and Setters
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public long getShortlistedCandidates() {
+        return shortlistedCandidates;
+    }
+
+    public void setShortlistedCandidates(long shortlistedCandidates) {
+        this.shortlistedCandidates = shortlistedCandidates;
+    }
+}
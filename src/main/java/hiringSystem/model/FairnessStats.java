@@ -0,0 +1,145 @@
+package hiringSystem.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Running fairness aggregate of the bias detection results of one job or of
+ * all jobs of one recruiter. Kept up to date as Bias rows are saved, so it
+ * can be read without scanning bias_detection. Bias scores lie in [-1, 1] and
+ * are counted in fixed-width histograms the percentiles are read from.
+ */
+@Entity
+@Table(name = "fairness_stats", uniqueConstraints = @UniqueConstraint(columnNames = { "scope", "scope_id" }))
+public class FairnessStats {
+    public static final String SCOPE_JOB = "JOB";
+    public static final String SCOPE_RECRUITER = "RECRUITER";
+
+    // Histogram bins over [-1, 1], 0.01 wide
+    public static final int BINS = 200;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    private long sampleCount;
+    private double genderScoreSum;
+    private double ageScoreSum;
+    private long biasDetectedCount;
+    private long predictedHireCount;
+
+    @Column(name = "gender_histogram")
+    private long[] genderHistogram = new long[BINS];
+
+    @Column(name = "age_histogram")
+    private long[] ageHistogram = new long[BINS];
+
+    public FairnessStats() {
+    }
+
+    /**
+     * Histogram bin of a bias score, scores outside [-1, 1] go to the outer
+     * bins
+     *
+     * @param score bias score
+     * @return bin index, 0 based
+     */
+    public static int bin(double score) {
+        int bin = (int) Math.floor((score + 1) / 2 * BINS);
+        return Math.max(0, Math.min(BINS - 1, bin));
+    }
+
+    public double getMeanGenderScore() {
+        return sampleCount == 0 ? 0 : genderScoreSum / sampleCount;
+    }
+
+    public double getMeanAgeScore() {
+        return sampleCount == 0 ? 0 : ageScoreSum / sampleCount;
+    }
+
+    public double getBiasDetectedRate() {
+        return sampleCount == 0 ? 0 : (double) biasDetectedCount / sampleCount;
+    }
+
+    public double getPredictedHireRate() {
+        return sampleCount == 0 ? 0 : (double) predictedHireCount / sampleCount;
+    }
+
+    public double genderScorePercentile(double percentile) {
+        return percentile(genderHistogram, percentile);
+    }
+
+    public double ageScorePercentile(double percentile) {
+        return percentile(ageHistogram, percentile);
+    }
+
+    /**
+     * Approximate percentile of the scores counted in a histogram, to within
+     * one bin width
+     *
+     * @param histogram  score histogram
+     * @param percentile percentile between 0 and 100
+     * @return midpoint of the bin holding the percentile, 0 if there are no
+     *         scores
+     */
+    private double percentile(long[] histogram, double percentile) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        double rank = Math.max(1, Math.ceil(percentile / 100 * sampleCount));
+        long seen = 0;
+        for (int bin = 0; bin < histogram.length; bin++) {
+            seen += histogram[bin];
+            if (seen >= rank) {
+                return -1 + (bin + 0.5) * 2 / BINS;
+            }
+        }
+        return 1;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public long getBiasDetectedCount() {
+        return biasDetectedCount;
+    }
+
+    public long getPredictedHireCount() {
+        return predictedHireCount;
+    }
+
+    public long[] getGenderHistogram() {
+        return genderHistogram;
+    }
+
+    public long[] getAgeHistogram() {
+        return ageHistogram;
+    }
+}
@@ -38,6 +38,10 @@ public class InterviewResponse {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Applications getApplication() {
         return application;
     }
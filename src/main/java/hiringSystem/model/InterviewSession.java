@@ -0,0 +1,234 @@
+package hiringSystem.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Running state of an application's chatbot interview, kept in memory so a
+ * turn does not re-read the whole transcript. Holds the question counters,
+ * the pending question and the job details sent with question requests. It
+ * also keeps running sums of the response scores, from which the interview
+ * and personality scores are computed, and may hold the next question,
+ * requested speculatively while the current answer is evaluated. Updates are
+ * keyed by response id, so applying the same saved response twice has no
+ * effect.
+ */
+public class InterviewSession {
+    private final Long applicationId;
+    private final Map<Long, Turn> turns = new LinkedHashMap<>();
+    private int technicalCount;
+    private int behavioralCount;
+    private long scoreSum; // technical and behavioral responses
+    private long behavioralScoreSum;
+    private Long pendingResponseId;
+
+    private String jobTitle;
+    private List<String> requiredSkills;
+    private List<String> preferredQualifications;
+
+    // Next question response, requested for the counts it was prefetched at
+    private CompletableFuture<Map<String, Object>> prefetchedQuestion;
+    private int prefetchedTechnicalCount;
+    private int prefetchedBehavioralCount;
+
+    private volatile long lastAccess;
+
+    public InterviewSession(Long applicationId, List<InterviewResponse> transcript) {
+        this.applicationId = applicationId;
+        for (InterviewResponse response : transcript) {
+            questionAsked(response);
+            if (response.getCandidateResponse() != null) {
+                answered(response);
+            }
+        }
+    }
+
+    /**
+     * Record a saved question
+     *
+     * @param response saved InterviewResponse holding the question
+     */
+    public synchronized void questionAsked(InterviewResponse response) {
+        if (turns.containsKey(response.getId())) {
+            return;
+        }
+        Turn turn = new Turn(response.getQuestion(), response.getQuestionType());
+        turns.put(response.getId(), turn);
+        if ("technical".equals(turn.questionType)) {
+            technicalCount++;
+        } else if ("behavioral".equals(turn.questionType)) {
+            behavioralCount++;
+        }
+        if (pendingResponseId == null || response.getId() > pendingResponseId) {
+            pendingResponseId = response.getId();
+        }
+    }
+
+    /**
+     * Record a saved, scored answer
+     *
+     * @param response saved InterviewResponse holding the answer and score
+     */
+    public synchronized void answered(InterviewResponse response) {
+        questionAsked(response);
+        Turn turn = turns.get(response.getId());
+        int delta = response.getAiScore() - turn.score;
+        turn.score = response.getAiScore();
+        if (turn.counted()) {
+            scoreSum += delta;
+        }
+        if ("behavioral".equals(turn.questionType)) {
+            behavioralScoreSum += delta;
+        }
+        if (response.getId().equals(pendingResponseId)) {
+            pendingResponseId = null;
+        }
+    }
+
+    /**
+     * Average score of the technical and behavioral responses; unanswered
+     * questions count as 0
+     *
+     * @return interview score
+     */
+    public synchronized int getInterviewScore() {
+        int count = technicalCount + behavioralCount;
+        return count == 0 ? 0 : (int) ((double) scoreSum / count);
+    }
+
+    /**
+     * Average score of the behavioral responses, 70 if there are none
+     *
+     * @return personality score
+     */
+    public synchronized int getPersonalityScore() {
+        return behavioralCount == 0 ? 70 : (int) ((double) behavioralScoreSum / behavioralCount);
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public synchronized int getResponseCount() {
+        return turns.size();
+    }
+
+    public synchronized int getTechnicalCount() {
+        return technicalCount;
+    }
+
+    public synchronized int getBehavioralCount() {
+        return behavioralCount;
+    }
+
+    /**
+     * The latest question that has not been answered yet
+     *
+     * @return unsaved copy holding the response id, question and question
+     *         type, or null if every question was answered
+     */
+    public synchronized InterviewResponse getPendingQuestion() {
+        if (pendingResponseId == null) {
+            return null;
+        }
+        Turn turn = turns.get(pendingResponseId);
+        InterviewResponse pending = new InterviewResponse();
+        pending.setId(pendingResponseId);
+        pending.setQuestion(turn.question);
+        pending.setQuestionType(turn.questionType);
+        return pending;
+    }
+
+    public synchronized boolean hasJobDetails() {
+        return jobTitle != null;
+    }
+
+    public synchronized void setJobDetails(String jobTitle, List<String> requiredSkills,
+            List<String> preferredQualifications) {
+        this.jobTitle = jobTitle;
+        this.requiredSkills = requiredSkills;
+        this.preferredQualifications = preferredQualifications;
+    }
+
+    public synchronized String getJobTitle() {
+        return jobTitle;
+    }
+
+    public synchronized List<String> getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public synchronized List<String> getPreferredQualifications() {
+        return preferredQualifications;
+    }
+
+    /**
+     * Keep a speculatively requested next question, replacing any earlier one
+     *
+     * @param technicalCount  technical question count the request was made with
+     * @param behavioralCount behavioral question count the request was made with
+     * @param question        pending /generate_question response
+     */
+    public synchronized void setPrefetchedQuestion(int technicalCount, int behavioralCount,
+            CompletableFuture<Map<String, Object>> question) {
+        discardPrefetchedQuestion();
+        prefetchedQuestion = question;
+        prefetchedTechnicalCount = technicalCount;
+        prefetchedBehavioralCount = behavioralCount;
+    }
+
+    /**
+     * Take the prefetched next question if it was requested for the current
+     * question counts; a stale one is discarded
+     *
+     * @return pending /generate_question response, or null if none is usable
+     */
+    public synchronized CompletableFuture<Map<String, Object>> takePrefetchedQuestion() {
+        CompletableFuture<Map<String, Object>> question = prefetchedQuestion;
+        if (question == null) {
+            return null;
+        }
+        prefetchedQuestion = null;
+        if (prefetchedTechnicalCount != technicalCount || prefetchedBehavioralCount != behavioralCount) {
+            question.cancel(false);
+            return null;
+        }
+        return question;
+    }
+
+    /**
+     * Drop the prefetched next question, cancelling the request if it is
+     * still running
+     */
+    public synchronized void discardPrefetchedQuestion() {
+        if (prefetchedQuestion != null) {
+            prefetchedQuestion.cancel(false);
+            prefetchedQuestion = null;
+        }
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    public void touch(long now) {
+        lastAccess = now;
+    }
+
+    private static final class Turn {
+        private final String question;
+        private final String questionType;
+        private int score;
+
+        Turn(String question, String questionType) {
+            this.question = question;
+            this.questionType = questionType;
+        }
+
+        boolean counted() {
+            return "technical".equals(questionType) || "behavioral".equals(questionType);
+        }
+    }
+}
@@ -2,8 +2,6 @@ package hiringSystem.model;
 
 import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Date;
 import java.util.List;
 
@@ -21,11 +19,13 @@ public class JobInfo {
     private String workType;
     private String recruitmentStrategy;
 
+    @Convert(converter = StringListConverter.class)
     @Column(columnDefinition = "TEXT")
-    private String requiredSkills; // Store as JSON string
+    private List<String> requiredSkills = List.of(); // Stored as JSON array
 
+    @Convert(converter = StringListConverter.class)
     @Column(columnDefinition = "TEXT")
-    private String preferredQualifications; // Store as JSON string
+    private List<String> preferredQualifications = List.of(); // Stored as JSON array
 
     private Date applicationDeadline;
 
@@ -46,37 +46,13 @@ public class JobInfo {
         this.location = location;
         this.salaryRange = salaryRange;
         this.workType = workType;
-        this.requiredSkills = serializeList(requiredSkills); // Serialize to JSON
-        this.preferredQualifications = serializeList(preferredQualifications); // Serialize to JSON
+        this.requiredSkills = StringListConverter.copyOf(requiredSkills);
+        this.preferredQualifications = StringListConverter.copyOf(preferredQualifications);
         this.applicationDeadline = applicationDeadline;
         this.recruitmentStrategy = recruitmentStrategy;
         this.recruiter = recruiter;
     }
 
-    // Helper method to serialize a list to JSON
-    private String serializeList(List<String> list) {
-        if (list == null) {
-            return "[]"; // Default to empty JSON array
-        }
-        try {
-            return new ObjectMapper().writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize list to JSON", e);
-        }
-    }
-
-    // Helper method to deserialize JSON to a list
-    private List<String> deserializeList(String json) {
-        if (json == null || json.isEmpty()) {
-            return List.of(); // Default to empty list
-        }
-        try {
-            return new ObjectMapper().readValue(json, List.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize JSON to list", e);
-        }
-    }
-
     // Getters and Setters
     public Long getId() {
         return id;
@@ -124,37 +100,37 @@ public class JobInfo {
 
     @JsonIgnore // Ignore this field during JSON serialization
     public String getRequiredSkillsJson() {
-        return requiredSkills;
+        return StringListConverter.toJson(requiredSkills);
     }
 
     public void setRequiredSkillsJson(String requiredSkills) {
-        this.requiredSkills = requiredSkills;
+        this.requiredSkills = StringListConverter.fromJson(requiredSkills);
     }
 
     @JsonIgnore // Ignore this field during JSON serialization
     public String getPreferredQualificationsJson() {
-        return preferredQualifications;
+        return StringListConverter.toJson(preferredQualifications);
     }
 
     public void setPreferredQualificationsJson(String preferredQualifications) {
-        this.preferredQualifications = preferredQualifications;
+        this.preferredQualifications = StringListConverter.fromJson(preferredQualifications);
     }
 
-    // Custom getters and setters for deserialized fields
+    // Parsed lists are immutable and cached on the entity
     public List<String> getRequiredSkills() {
-        return deserializeList(requiredSkills);
+        return requiredSkills != null ? requiredSkills : List.of();
     }
 
     public void setRequiredSkills(List<String> requiredSkills) {
-        this.requiredSkills = serializeList(requiredSkills);
+        this.requiredSkills = StringListConverter.copyOf(requiredSkills);
     }
 
     public List<String> getPreferredQualifications() {
-        return deserializeList(preferredQualifications);
+        return preferredQualifications != null ? preferredQualifications : List.of();
     }
 
     public void setPreferredQualifications(List<String> preferredQualifications) {
-        this.preferredQualifications = serializeList(preferredQualifications);
+        this.preferredQualifications = StringListConverter.copyOf(preferredQualifications);
     }
 
     public Date getApplicationDeadline() {
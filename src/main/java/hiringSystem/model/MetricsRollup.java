@@ -0,0 +1,95 @@
+package hiringSystem.model;
+
+import java.util.Date;
+
+import jakarta.persistence.*;
+
+/**
+ * One time bucket of a recruiter's dashboard metrics. Hourly buckets are
+ * written once from the running counters and rolled up into the day, week
+ * and month buckets that contain them; old hourly and daily buckets are
+ * compacted away. Totals are the counts at the end of the bucket,
+ * newApplications the applications received during it.
+ */
+@Entity
+@Table(name = "dashboard_rollups", uniqueConstraints = @UniqueConstraint(columnNames = { "recruiter_id", "tier",
+        "bucket_start" }))
+public class MetricsRollup {
+    public static final String TIER_HOUR = "HOUR";
+    public static final String TIER_DAY = "DAY";
+    public static final String TIER_WEEK = "WEEK";
+    public static final String TIER_MONTH = "MONTH";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(nullable = false, length = 8)
+    private String tier;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Date bucketStart;
+
+    private long totalApplications;
+    private long shortlistedCandidates;
+    private long newApplications;
+
+    public MetricsRollup() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+
+    public void setTier(String tier) {
+        this.tier = tier;
+    }
+
+    public Date getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(Date bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public long getShortlistedCandidates() {
+        return shortlistedCandidates;
+    }
+
+    public void setShortlistedCandidates(long shortlistedCandidates) {
+        this.shortlistedCandidates = shortlistedCandidates;
+    }
+
+    public long getNewApplications() {
+        return newApplications;
+    }
+
+    public void setNewApplications(long newApplications) {
+        this.newApplications = newApplications;
+    }
+}
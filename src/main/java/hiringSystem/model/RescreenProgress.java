@@ -0,0 +1,79 @@
+package hiringSystem.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a recruiter-triggered re-screening of all resumes for a job.
+ * state is one of "Running", "Completed" or "Failed"; resumes are counted
+ * once per distinct stored resume, applications once per AiData row updated.
+ */
+public class RescreenProgress {
+    public static final String RUNNING = "Running";
+    public static final String COMPLETED = "Completed";
+    public static final String FAILED = "Failed";
+
+    private final Long jobId;
+    private volatile String state = RUNNING;
+    private volatile int totalResumes;
+    private final AtomicInteger screenedResumes = new AtomicInteger();
+    private final AtomicInteger failedResumes = new AtomicInteger();
+    private volatile int updatedApplications;
+    private volatile String error;
+
+    public RescreenProgress(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public int getTotalResumes() {
+        return totalResumes;
+    }
+
+    public void setTotalResumes(int totalResumes) {
+        this.totalResumes = totalResumes;
+    }
+
+    public int getScreenedResumes() {
+        return screenedResumes.get();
+    }
+
+    public void resumesScreened(int count) {
+        screenedResumes.addAndGet(count);
+    }
+
+    public int getFailedResumes() {
+        return failedResumes.get();
+    }
+
+    public void resumesFailed(int count) {
+        failedResumes.addAndGet(count);
+    }
+
+    public int getUpdatedApplications() {
+        return updatedApplications;
+    }
+
+    public void setUpdatedApplications(int updatedApplications) {
+        this.updatedApplications = updatedApplications;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
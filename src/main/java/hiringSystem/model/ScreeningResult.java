@@ -0,0 +1,113 @@
+package hiringSystem.model;
+
+import java.util.List;
+
+import jakarta.persistence.*;
+
+/**
+ * Output of the resume screening model for one resume against one job.
+ * Computed once per (resume hash, job id) and shared by every AiData that
+ * screens the same document for the same job.
+ */
+@Entity
+@Table(name = "screening_results", uniqueConstraints = @UniqueConstraint(columnNames = { "resume_hash",
+        "job_id" }))
+public class ScreeningResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "resume_hash", length = 64, nullable = false)
+    private String resumeHash; // SHA-256 of the resume bytes, hex encoded
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    private int resumeScore;
+    private String predictedCategory;
+    private double confidence;
+    private double relevanceScore;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<String> matchedSkills = List.of();
+
+    public ScreeningResult() {
+    }
+
+    public ScreeningResult(String resumeHash, Long jobId, int resumeScore, String predictedCategory,
+            double confidence, double relevanceScore, List<String> matchedSkills) {
+        this.resumeHash = resumeHash;
+        this.jobId = jobId;
+        this.resumeScore = resumeScore;
+        this.predictedCategory = predictedCategory;
+        this.confidence = confidence;
+        this.relevanceScore = relevanceScore;
+        setMatchedSkills(matchedSkills);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getResumeHash() {
+        return resumeHash;
+    }
+
+    public void setResumeHash(String resumeHash) {
+        this.resumeHash = resumeHash;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public int getResumeScore() {
+        return resumeScore;
+    }
+
+    public void setResumeScore(int resumeScore) {
+        this.resumeScore = resumeScore;
+    }
+
+    public String getPredictedCategory() {
+        return predictedCategory;
+    }
+
+    public void setPredictedCategory(String predictedCategory) {
+        this.predictedCategory = predictedCategory;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(double confidence) {
+        this.confidence = confidence;
+    }
+
+    public double getRelevanceScore() {
+        return relevanceScore;
+    }
+
+    public void setRelevanceScore(double relevanceScore) {
+        this.relevanceScore = relevanceScore;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = StringListConverter.copyOf(matchedSkills);
+    }
+}
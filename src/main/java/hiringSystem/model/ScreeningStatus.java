@@ -0,0 +1,72 @@
+package hiringSystem.model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Progress of the asynchronous AI screening of an application.
+ * state is one of "Queued", "Running", "Completed" or "Failed";
+ * completedStages lists the model calls that have finished so far;
+ * fallbackStages those that failed and were scored locally instead.
+ */
+public class ScreeningStatus {
+    public static final String QUEUED = "Queued";
+    public static final String RUNNING = "Running";
+    public static final String COMPLETED = "Completed";
+    public static final String FAILED = "Failed";
+
+    private Long applicationId;
+    private volatile String state;
+    private final List<String> completedStages = new CopyOnWriteArrayList<>();
+    private final List<String> fallbackStages = new CopyOnWriteArrayList<>();
+    private volatile String error;
+
+    public ScreeningStatus() {
+    }
+
+    public ScreeningStatus(Long applicationId, String state) {
+        this.applicationId = applicationId;
+        this.state = state;
+    }
+
+    // Getters and Setters
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public List<String> getCompletedStages() {
+        return completedStages;
+    }
+
+    public void stageCompleted(String stage) {
+        completedStages.add(stage);
+    }
+
+    public List<String> getFallbackStages() {
+        return fallbackStages;
+    }
+
+    public void stageFellBack(String stage) {
+        fallbackStages.add(stage);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,136 @@
+package hiringSystem.model;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps a List<String> attribute to a JSON array in a TEXT column.
+ * Uses a shared, thread-safe reader and writer, and hands the entity a lazy
+ * immutable list that parses its JSON on first access and keeps the raw JSON
+ * so that writing it back does not re-serialize.
+ * The lists are immutable, so Hibernate can snapshot them by reference.
+ */
+@Converter
+@Immutable
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = MAPPER.readerForListOf(String.class);
+    private static final ObjectWriter WRITER = MAPPER.writerFor(MAPPER.getTypeFactory()
+            .constructCollectionType(List.class, String.class));
+
+    @Override
+    public String convertToDatabaseColumn(List<String> list) {
+        return toJson(list);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String json) {
+        return fromJson(json);
+    }
+
+    /**
+     * Lazy immutable list over a JSON array
+     *
+     * @param json JSON array, may be null or empty
+     * @return immutable list; empty if json is null or empty
+     */
+    public static List<String> fromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of(); // Default to empty list
+        }
+        return new JsonList(json, null);
+    }
+
+    /**
+     * Immutable copy of a list that remembers its JSON form
+     *
+     * @param list the list to copy, may be null
+     * @return immutable list; empty if list is null
+     */
+    public static List<String> copyOf(List<String> list) {
+        if (list == null) {
+            return List.of();
+        }
+        if (list instanceof JsonList) {
+            return list;
+        }
+        String[] values = list.toArray(new String[0]);
+        return new JsonList(write(Arrays.asList(values)), values);
+    }
+
+    /**
+     * JSON form of a list, reusing the stored JSON when the list was loaded or
+     * copied through this converter
+     *
+     * @param list the list, may be null
+     * @return JSON array; "[]" if list is null
+     */
+    public static String toJson(List<String> list) {
+        if (list == null) {
+            return "[]"; // Default to empty JSON array
+        }
+        if (list instanceof JsonList jsonList) {
+            return jsonList.json;
+        }
+        return write(list);
+    }
+
+    private static String write(List<String> value) {
+        try {
+            return WRITER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize list to JSON", e);
+        }
+    }
+
+    /**
+     * Immutable list backed by a JSON array, parsed once on first access
+     */
+    private static final class JsonList extends AbstractList<String> implements RandomAccess {
+        private final String json;
+        private volatile String[] values;
+
+        JsonList(String json, String[] values) {
+            this.json = json;
+            this.values = values;
+        }
+
+        private String[] values() {
+            String[] parsed = values;
+            if (parsed == null) {
+                try {
+                    List<String> list = READER.readValue(json);
+                    parsed = list.toArray(new String[0]);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to deserialize JSON to list", e);
+                }
+                values = parsed;
+            }
+            return parsed;
+        }
+
+        @Override
+        public String get(int index) {
+            return values()[index];
+        }
+
+        @Override
+        public int size() {
+            return values().length;
+        }
+    }
+}
@@ -11,8 +11,12 @@ import java.util.*;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface AIDataRepository extends JpaRepository<AiData, Long> {
+public interface AIDataRepository extends JpaRepository<AiData, Long>, AIDataRepositoryCustom {
     Optional<AiData> findByApplicationId(Long applicationId);
 
     List<AiData> findByApplication_Job_RecruiterUserId(Long recruiterId);
+
+    List<AiData> findByApplication_JobId(Long jobId);
+
+    List<AiData> findByRescorePendingTrue();
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+/**
+ * AIDataRepositoryCustom.java
+ * Custom operations for the AiData entity that are not expressible as
+ * Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+import java.util.List;
+
+import hiringSystem.model.AiData;
+
+public interface AIDataRepositoryCustom {
+
+    /**
+     * Write the resume screening fields (resume score, screening result,
+     * skill score, overall score and feedback) of existing AiData rows in a
+     * single JDBC batch
+     *
+     * @param aiData AiData objects with ids and updated screening fields
+     */
+    void batchUpdateScreening(List<AiData> aiData);
+}
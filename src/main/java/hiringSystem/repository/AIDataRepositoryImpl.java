@@ -0,0 +1,53 @@
+/**
+ * AIDataRepositoryImpl.java
+ * JDBC implementation of the custom AiData repository operations.
+ */
+package hiringSystem.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import hiringSystem.model.AiData;
+
+public class AIDataRepositoryImpl implements AIDataRepositoryCustom {
+
+    private static final String UPDATE_SCREENING_SQL = "UPDATE ai_data SET resume_score = ?, screening_result_id = ?, "
+            + "skill_match_score = ?, overall_score = ?, ai_feedback = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpdateScreening(List<AiData> aiData) {
+        if (aiData.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SCREENING_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AiData row = aiData.get(i);
+                ps.setInt(1, row.getResumeScore());
+                if (row.getScreeningResult() != null) {
+                    ps.setLong(2, row.getScreeningResult().getId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setInt(3, row.getSkillMatchScore());
+                ps.setInt(4, row.getOverallScore());
+                ps.setString(5, row.getAiFeedback());
+                ps.setLong(6, row.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return aiData.size();
+            }
+        });
+    }
+}
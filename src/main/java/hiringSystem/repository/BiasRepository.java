@@ -5,12 +5,24 @@
 package hiringSystem.repository;
 
 import hiringSystem.model.Bias;
+import jakarta.persistence.LockModeType;
 
 import java.util.*;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
-public interface BiasRepository extends JpaRepository<Bias, Long> {
+public interface BiasRepository extends JpaRepository<Bias, Long>, BiasRepositoryCustom {
 
     Optional<Bias> findByApplicationId(Long applicationId);
-}
\ No newline at end of file
+
+    /**
+     * Find the bias result of an application and lock it until the end of the
+     * transaction
+     *
+     * @param applicationId ID of the application
+     * @return Optional containing the locked result, empty if there is none
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Bias> findForUpdateByApplicationId(Long applicationId);
+}
@@ -0,0 +1,18 @@
+/**
+ * BiasRepositoryCustom.java
+ * Custom operations for the Bias entity that are not expressible as Spring
+ * Data derived queries.
+ */
+package hiringSystem.repository;
+
+public interface BiasRepositoryCustom {
+
+    /**
+     * Add the one-result-per-application uniqueness of bias_detection to
+     * tables that had duplicate rows before it existed, keeping the newest
+     * row of each application. Must run in a transaction.
+     *
+     * @return true if duplicate rows were removed
+     */
+    boolean ensureUniqueApplications();
+}
@@ -0,0 +1,36 @@
+/**
+ * BiasRepositoryImpl.java
+ * JDBC implementation of the custom Bias repository operations.
+ */
+package hiringSystem.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class BiasRepositoryImpl implements BiasRepositoryCustom {
+
+    private static final String UNIQUE_APPLICATION = "uk_bias_detection_application";
+
+    private static final String DELETE_DUPLICATES_SQL = "DELETE FROM bias_detection d USING bias_detection k "
+            + "WHERE d.application_id = k.application_id AND d.id < k.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean ensureUniqueApplications() {
+        Integer constraints = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.table_constraints "
+                        + "WHERE table_name = 'bias_detection' AND constraint_name = ?",
+                Integer.class, UNIQUE_APPLICATION);
+        if (constraints != null && constraints > 0) {
+            return false;
+        }
+        // Keeps rows from being added between the cleanup and the constraint
+        jdbcTemplate.execute("LOCK TABLE bias_detection IN SHARE ROW EXCLUSIVE MODE");
+        int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        jdbcTemplate.execute("ALTER TABLE bias_detection ADD CONSTRAINT " + UNIQUE_APPLICATION
+                + " UNIQUE (application_id)");
+        return deleted > 0;
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * DashboardCounterRepository.java
+ * This interface extends JpaRepository to provide CRUD operations for the DashboardCounter entity.
+ */
+package hiringSystem.repository;
+
+import hiringSystem.model.DashboardCounter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, Long>, DashboardCounterRepositoryCustom {
+}
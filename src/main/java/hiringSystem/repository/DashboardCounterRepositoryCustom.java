@@ -0,0 +1,26 @@
+/**
+ * DashboardCounterRepositoryCustom.java
+ * Custom operations for the DashboardCounter entity that are not expressible
+ * as Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+public interface DashboardCounterRepositoryCustom {
+
+    /**
+     * Atomically add to the counts of a recruiter, creating the counter if it
+     * does not exist yet
+     *
+     * @param recruiterId       user ID of the recruiter
+     * @param applications      change in the number of applications
+     * @param shortlisted       change in the number of shortlisted applications
+     */
+    void addCounts(Long recruiterId, long applications, long shortlisted);
+
+    /**
+     * Recompute every recruiter's counts from the applications table in one
+     * grouped query. Must run in a transaction; concurrent count updates wait
+     * for it to commit.
+     */
+    void rebuild();
+}
@@ -0,0 +1,38 @@
+/**
+ * DashboardCounterRepositoryImpl.java
+ * JDBC implementation of the custom DashboardCounter repository operations.
+ */
+package hiringSystem.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DashboardCounterRepositoryImpl implements DashboardCounterRepositoryCustom {
+
+    private static final String ADD_COUNTS_SQL = "INSERT INTO dashboard_counters (recruiter_id, total_applications, "
+            + "shortlisted_candidates) VALUES (?, ?, ?) ON CONFLICT (recruiter_id) DO UPDATE SET "
+            + "total_applications = dashboard_counters.total_applications + EXCLUDED.total_applications, "
+            + "shortlisted_candidates = dashboard_counters.shortlisted_candidates + EXCLUDED.shortlisted_candidates";
+
+    private static final String REBUILD_SQL = "INSERT INTO dashboard_counters (recruiter_id, total_applications, "
+            + "shortlisted_candidates) SELECT j.recruiter_id, count(*), count(*) FILTER (WHERE a.status = 'Shortlisted') "
+            + "FROM applications a JOIN jobs j ON j.id = a.job_id WHERE j.recruiter_id IS NOT NULL "
+            + "GROUP BY j.recruiter_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addCounts(Long recruiterId, long applications, long shortlisted) {
+        jdbcTemplate.update(ADD_COUNTS_SQL, recruiterId, applications, shortlisted);
+    }
+
+    @Override
+    public void rebuild() {
+        // Waits for in-flight counter updates and holds new ones until commit,
+        // so none is lost or counted twice
+        jdbcTemplate.execute("LOCK TABLE dashboard_counters IN SHARE ROW EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM dashboard_counters");
+        jdbcTemplate.update(REBUILD_SQL);
+    }
+}
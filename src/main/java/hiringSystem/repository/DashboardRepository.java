@@ -11,15 +11,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
-public interface DashboardRepository extends JpaRepository<Dashboard, Long> {
+public interface DashboardRepository extends JpaRepository<Dashboard, Long>, DashboardRepositoryCustom {
 
     List<Dashboard> findByRecruiterUserId(Long recruiterId);
 
     Optional<Dashboard> findByRecruiterUserIdAndMetricDate(Long recruiterId, Date metricDate);
-
-    List<Dashboard> findDailyMetricsByRecruiterUserId(Long recruiterId);
-
-    List<Dashboard> findWeeklyMetricsByRecruiterUserId(Long recruiterId);
-
-    List<Dashboard> findMonthlyMetricsByRecruiterUserId(Long recruiterId);
 }
@@ -0,0 +1,31 @@
+/**
+ * DashboardRepositoryCustom.java
+ * Custom operations for the Dashboard entity that are not expressible as
+ * Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+import java.util.Date;
+import java.util.List;
+
+public interface DashboardRepositoryCustom {
+
+    /**
+     * Insert or overwrite the metrics of one period for many recruiters in a
+     * single batch; a row that already exists for the recruiter and period is
+     * updated in place
+     *
+     * @param counts     one { recruiter user ID, total applications,
+     *                   shortlisted candidates } entry per recruiter
+     * @param metricDate start of the period
+     */
+    void upsertAll(List<long[]> counts, Date metricDate);
+
+    /**
+     * Make sure metrics are unique per recruiter and period. Tables created
+     * before the constraint existed may hold duplicate rows, which stop the
+     * schema update from adding it; those keep their newest row and the
+     * constraint is added. Must run in a transaction.
+     */
+    void ensureUniquePeriods();
+}
@@ -0,0 +1,55 @@
+/**
+ * DashboardRepositoryImpl.java
+ * JDBC implementation of the custom Dashboard repository operations.
+ */
+package hiringSystem.repository;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DashboardRepositoryImpl implements DashboardRepositoryCustom {
+
+    private static final String UNIQUE_PERIOD = "uk_dashboard_metrics_recruiter_period";
+
+    private static final String UPSERT_SQL = "INSERT INTO dashboard_metrics (recruiter_id, total_applications, "
+            + "shortlisted_candidates, metric_date) VALUES (?, ?, ?, ?) ON CONFLICT (recruiter_id, metric_date) "
+            + "DO UPDATE SET total_applications = EXCLUDED.total_applications, "
+            + "shortlisted_candidates = EXCLUDED.shortlisted_candidates";
+
+    private static final String DELETE_DUPLICATES_SQL = "DELETE FROM dashboard_metrics d USING dashboard_metrics k "
+            + "WHERE d.recruiter_id = k.recruiter_id AND d.metric_date = k.metric_date AND d.id < k.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<long[]> counts, Date metricDate) {
+        Timestamp periodStart = new Timestamp(metricDate.getTime());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, counts, counts.size(), (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setInt(2, (int) row[1]);
+            ps.setInt(3, (int) row[2]);
+            ps.setTimestamp(4, periodStart);
+        });
+    }
+
+    @Override
+    public void ensureUniquePeriods() {
+        Integer constraints = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.table_constraints "
+                        + "WHERE table_name = 'dashboard_metrics' AND constraint_name = ?",
+                Integer.class, UNIQUE_PERIOD);
+        if (constraints != null && constraints > 0) {
+            return;
+        }
+        // Keeps rows from being added between the cleanup and the constraint
+        jdbcTemplate.execute("LOCK TABLE dashboard_metrics IN SHARE ROW EXCLUSIVE MODE");
+        jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        jdbcTemplate.execute("ALTER TABLE dashboard_metrics ADD CONSTRAINT " + UNIQUE_PERIOD
+                + " UNIQUE (recruiter_id, metric_date)");
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * FairnessStatsRepository.java
+ * This interface extends JpaRepository to provide CRUD operations for the FairnessStats entity.
+ */
+package hiringSystem.repository;
+
+import hiringSystem.model.FairnessStats;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FairnessStatsRepository extends JpaRepository<FairnessStats, Long>, FairnessStatsRepositoryCustom {
+
+    Optional<FairnessStats> findByScopeAndScopeId(String scope, Long scopeId);
+}
@@ -0,0 +1,27 @@
+/**
+ * FairnessStatsRepositoryCustom.java
+ * Custom operations for the FairnessStats entity that are not expressible as
+ * Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+import hiringSystem.model.Bias;
+
+public interface FairnessStatsRepositoryCustom {
+
+    /**
+     * Atomically add a bias result to, or remove one from, the aggregate of a
+     * job or recruiter, creating the aggregate if it does not exist yet
+     *
+     * @param scope   FairnessStats.SCOPE_JOB or FairnessStats.SCOPE_RECRUITER
+     * @param scopeId job id or recruiter id
+     * @param bias    bias result to count
+     * @param sign    1 to add the result, -1 to remove it
+     */
+    void applyBias(String scope, Long scopeId, Bias bias, int sign);
+
+    /**
+     * Recompute every aggregate from the bias_detection table in one pass
+     */
+    void rebuild();
+}
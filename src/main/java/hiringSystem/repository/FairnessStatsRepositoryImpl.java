@@ -0,0 +1,143 @@
+/**
+ * FairnessStatsRepositoryImpl.java
+ * JDBC implementation of the custom FairnessStats repository operations.
+ * Counters and histogram bins are incremented in SQL so concurrent bias
+ * results for the same job never overwrite each other.
+ */
+package hiringSystem.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import hiringSystem.model.Bias;
+import hiringSystem.model.FairnessStats;
+
+public class FairnessStatsRepositoryImpl implements FairnessStatsRepositoryCustom {
+
+    private static final String CREATE_SQL = "INSERT INTO fairness_stats (scope, scope_id, sample_count, "
+            + "gender_score_sum, age_score_sum, bias_detected_count, predicted_hire_count, gender_histogram, "
+            + "age_histogram) VALUES (?, ?, 0, 0, 0, 0, 0, array_fill(0::bigint, ARRAY[" + FairnessStats.BINS
+            + "]), array_fill(0::bigint, ARRAY[" + FairnessStats.BINS + "])) ON CONFLICT (scope, scope_id) DO NOTHING";
+
+    // Histogram subscripts are 1 based
+    private static final String APPLY_SQL = "UPDATE fairness_stats SET sample_count = sample_count + ?, "
+            + "gender_score_sum = gender_score_sum + ?, age_score_sum = age_score_sum + ?, "
+            + "bias_detected_count = bias_detected_count + ?, predicted_hire_count = predicted_hire_count + ?, "
+            + "gender_histogram[?] = gender_histogram[?] + ?, age_histogram[?] = age_histogram[?] + ? "
+            + "WHERE scope = ? AND scope_id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO fairness_stats (scope, scope_id, sample_count, "
+            + "gender_score_sum, age_score_sum, bias_detected_count, predicted_hire_count, gender_histogram, "
+            + "age_histogram) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String BIAS_BY_JOB_SQL = "SELECT j.id AS job_id, j.recruiter_id, b.bias_score_gender, "
+            + "b.bias_score_age, b.predicted_decision, b.bias_detected FROM bias_detection b "
+            + "JOIN applications a ON a.id = b.application_id JOIN jobs j ON j.id = a.job_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyBias(String scope, Long scopeId, Bias bias, int sign) {
+        jdbcTemplate.update(CREATE_SQL, scope, scopeId);
+        int genderBin = FairnessStats.bin(bias.getBiasScoreGender()) + 1;
+        int ageBin = FairnessStats.bin(bias.getBiasScoreAge()) + 1;
+        jdbcTemplate.update(APPLY_SQL,
+                sign,
+                sign * bias.getBiasScoreGender(),
+                sign * bias.getBiasScoreAge(),
+                bias.isBiasDetected() ? sign : 0,
+                bias.getPredictedDecision() == 1 ? sign : 0,
+                genderBin, genderBin, sign,
+                ageBin, ageBin, sign,
+                scope, scopeId);
+    }
+
+    @Override
+    public void rebuild() {
+        Map<String, Totals> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(BIAS_BY_JOB_SQL, rs -> {
+            Bias bias = new Bias(null, rs.getDouble("bias_score_gender"), rs.getDouble("bias_score_age"),
+                    rs.getInt("predicted_decision"), rs.getBoolean("bias_detected"));
+            long jobId = rs.getLong("job_id");
+            totals.computeIfAbsent(FairnessStats.SCOPE_JOB + ":" + jobId,
+                    key -> new Totals(FairnessStats.SCOPE_JOB, jobId)).add(bias);
+            long recruiterId = rs.getLong("recruiter_id");
+            if (!rs.wasNull()) {
+                totals.computeIfAbsent(FairnessStats.SCOPE_RECRUITER + ":" + recruiterId,
+                        key -> new Totals(FairnessStats.SCOPE_RECRUITER, recruiterId)).add(bias);
+            }
+        });
+
+        List<Totals> rows = new ArrayList<>(totals.values());
+        jdbcTemplate.update("DELETE FROM fairness_stats");
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Totals row = rows.get(i);
+                ps.setString(1, row.scope);
+                ps.setLong(2, row.scopeId);
+                ps.setLong(3, row.sampleCount);
+                ps.setDouble(4, row.genderScoreSum);
+                ps.setDouble(5, row.ageScoreSum);
+                ps.setLong(6, row.biasDetectedCount);
+                ps.setLong(7, row.predictedHireCount);
+                ps.setArray(8, toArray(ps, row.genderHistogram));
+                ps.setArray(9, toArray(ps, row.ageHistogram));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static Array toArray(PreparedStatement ps, long[] histogram) throws SQLException {
+        Long[] boxed = new Long[histogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            boxed[i] = histogram[i];
+        }
+        return ps.getConnection().createArrayOf("bigint", boxed);
+    }
+
+    private static final class Totals {
+        private final String scope;
+        private final long scopeId;
+        private long sampleCount;
+        private double genderScoreSum;
+        private double ageScoreSum;
+        private long biasDetectedCount;
+        private long predictedHireCount;
+        private final long[] genderHistogram = new long[FairnessStats.BINS];
+        private final long[] ageHistogram = new long[FairnessStats.BINS];
+
+        Totals(String scope, long scopeId) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+        }
+
+        void add(Bias bias) {
+            sampleCount++;
+            genderScoreSum += bias.getBiasScoreGender();
+            ageScoreSum += bias.getBiasScoreAge();
+            if (bias.isBiasDetected()) {
+                biasDetectedCount++;
+            }
+            if (bias.getPredictedDecision() == 1) {
+                predictedHireCount++;
+            }
+            genderHistogram[FairnessStats.bin(bias.getBiasScoreGender())]++;
+            ageHistogram[FairnessStats.bin(bias.getBiasScoreAge())]++;
+        }
+    }
+}
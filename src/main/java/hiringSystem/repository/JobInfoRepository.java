@@ -7,10 +7,14 @@ package hiringSystem.repository;
 import hiringSystem.model.JobInfo;
 import hiringSystem.model.RecruiterProfile;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,4 +26,24 @@ public interface JobInfoRepository extends JpaRepository<JobInfo, Long> {
 
     List<JobInfo> findByRequiredSkillsContainingAndLocationAndWorkTypeAndSalaryRange(
             String skill, String location, String workType, String salaryRange);
+
+    @EntityGraph(attributePaths = { "recruiter", "recruiter.user" })
+    List<JobInfo> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = { "recruiter", "recruiter.user" })
+    List<JobInfo> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
+    @Query("SELECT j.id AS id, j.location AS location, j.requiredSkills AS requiredSkills FROM JobInfo j")
+    List<MatchFields> findAllMatchFields();
+
+    /**
+     * The columns needed to score a job, without loading the entity graph
+     */
+    interface MatchFields {
+        Long getId();
+
+        String getLocation();
+
+        List<String> getRequiredSkills();
+    }
 }
\ No newline at end of file
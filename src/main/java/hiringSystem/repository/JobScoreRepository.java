@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import hiringSystem.model.JobInfo;
@@ -15,8 +17,20 @@ import hiringSystem.model.JobScore;
 import hiringSystem.model.UserProfile;
 
 @Repository
-public interface JobScoreRepository extends JpaRepository<JobScore, Long> {
+public interface JobScoreRepository extends JpaRepository<JobScore, Long>, JobScoreRepositoryCustom {
     List<JobScore> findByCandidate(UserProfile candidate);
 
     Optional<JobScore> findByCandidateAndJob(UserProfile candidate, JobInfo job);
+
+    @Query("SELECT s.job.id AS jobId, s.matchScore AS matchScore FROM JobScore s WHERE s.candidate.userId = :candidateId")
+    List<ScoreFields> findScoreFieldsByCandidateId(@Param("candidateId") Long candidateId);
+
+    /**
+     * A stored match score without its candidate and job graphs
+     */
+    interface ScoreFields {
+        Long getJobId();
+
+        int getMatchScore();
+    }
 }
@@ -0,0 +1,19 @@
+/**
+ * JobScoreRepositoryCustom.java
+ * Custom operations for the JobScore entity that are not expressible as
+ * Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+public interface JobScoreRepositoryCustom {
+
+    /**
+     * Insert match scores for one candidate in a single JDBC batch
+     *
+     * @param candidateId candidate user id
+     * @param jobIds      job ids
+     * @param scores      match scores, parallel to jobIds
+     * @param count       number of entries to insert
+     */
+    void batchInsert(Long candidateId, long[] jobIds, int[] scores, int count);
+}
@@ -0,0 +1,41 @@
+/**
+ * JobScoreRepositoryImpl.java
+ * JDBC implementation of the custom JobScore repository operations.
+ */
+package hiringSystem.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JobScoreRepositoryImpl implements JobScoreRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO job_match_scores (candidate_id, job_id, match_score) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(Long candidateId, long[] jobIds, int[] scores, int count) {
+        if (count == 0) {
+            return;
+        }
+        // JobScore uses IDENTITY ids, which disables Hibernate insert batching
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, candidateId);
+                ps.setLong(2, jobIds[i]);
+                ps.setInt(3, scores[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+    }
+}
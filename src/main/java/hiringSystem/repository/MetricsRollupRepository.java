@@ -0,0 +1,18 @@
+/**
+ * MetricsRollupRepository.java
+ * This interface extends JpaRepository to provide CRUD operations for the MetricsRollup entity.
+ */
+package hiringSystem.repository;
+
+import hiringSystem.model.MetricsRollup;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MetricsRollupRepository extends JpaRepository<MetricsRollup, Long>, MetricsRollupRepositoryCustom {
+
+    List<MetricsRollup> findByRecruiterIdAndTierAndBucketStartBetweenOrderByBucketStart(Long recruiterId,
+            String tier, Date from, Date to);
+}
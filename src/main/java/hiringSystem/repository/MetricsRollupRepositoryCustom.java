@@ -0,0 +1,61 @@
+/**
+ * MetricsRollupRepositoryCustom.java
+ * Custom operations for the MetricsRollup entity that are not expressible as
+ * Spring Data derived queries.
+ */
+package hiringSystem.repository;
+
+import java.util.Date;
+import java.util.List;
+
+public interface MetricsRollupRepositoryCustom {
+
+    /**
+     * Write every recruiter's hourly bucket from the running counters and add
+     * it to the day, week and month buckets containing it. An hour that was
+     * already written is left as it is and not rolled up again. Received
+     * applications are counted from the latest earlier hourly bucket, or the
+     * latest day or week bucket before the day when there is none; without
+     * either they are 0.
+     *
+     * @param hour  start of the hour
+     * @param day   start of the day containing the hour
+     * @param week  start of the week containing the hour
+     * @param month start of the month containing the hour
+     * @return number of hourly buckets written
+     */
+    int writeHour(Date hour, Date day, Date week, Date month);
+
+    /**
+     * Set the totals of one recruiter's bucket to its current counts,
+     * creating the bucket if needed; received applications are left as they
+     * are
+     *
+     * @param recruiterId user ID of the recruiter
+     * @param tier        bucket tier
+     * @param bucketStart start of the bucket
+     * @param total       current number of applications
+     * @param shortlisted current number of shortlisted applications
+     */
+    void refreshTotals(Long recruiterId, String tier, Date bucketStart, long total, long shortlisted);
+
+    /**
+     * Set the totals of many recruiters' buckets in a single batch, as
+     * refreshTotals does for one
+     *
+     * @param tier        bucket tier
+     * @param bucketStart start of the bucket
+     * @param counts      one { recruiter user ID, total applications,
+     *                    shortlisted candidates } entry per recruiter
+     */
+    void refreshAllTotals(String tier, Date bucketStart, List<long[]> counts);
+
+    /**
+     * Delete the buckets of a tier that start before a cutoff
+     *
+     * @param tier   bucket tier
+     * @param cutoff oldest bucket start to keep
+     * @return number of buckets deleted
+     */
+    int deleteBefore(String tier, Date cutoff);
+}
@@ -0,0 +1,88 @@
+/**
+ * MetricsRollupRepositoryImpl.java
+ * JDBC implementation of the custom MetricsRollup repository operations.
+ */
+package hiringSystem.repository;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import hiringSystem.model.MetricsRollup;
+
+public class MetricsRollupRepositoryImpl implements MetricsRollupRepositoryCustom {
+
+    // Received applications of the hour are the growth since the latest earlier hourly bucket, or
+    // since the latest earlier day or week bucket when the hourly ones are compacted or missing;
+    // a recruiter without any bucket starts at 0 rather than booking the lifetime total.
+    // Only hours inserted by this statement are rolled up, so a repeated run adds nothing twice.
+    private static final String WRITE_HOUR_SQL = "WITH written AS ("
+            + "INSERT INTO dashboard_rollups (recruiter_id, tier, bucket_start, total_applications, "
+            + "shortlisted_candidates, new_applications) "
+            + "SELECT c.recruiter_id, '" + MetricsRollup.TIER_HOUR + "', ?, c.total_applications, "
+            + "c.shortlisted_candidates, GREATEST(c.total_applications - COALESCE((SELECT p.total_applications "
+            + "FROM dashboard_rollups p WHERE p.recruiter_id = c.recruiter_id AND p.tier = '"
+            + MetricsRollup.TIER_HOUR + "' AND p.bucket_start < ? ORDER BY p.bucket_start DESC LIMIT 1), "
+            + "(SELECT p.total_applications FROM dashboard_rollups p WHERE p.recruiter_id = c.recruiter_id "
+            + "AND p.tier IN ('" + MetricsRollup.TIER_DAY + "', '" + MetricsRollup.TIER_WEEK + "') "
+            + "AND p.bucket_start < ? ORDER BY p.bucket_start DESC LIMIT 1), c.total_applications), 0) "
+            + "FROM dashboard_counters c "
+            + "ON CONFLICT (recruiter_id, tier, bucket_start) DO NOTHING "
+            + "RETURNING recruiter_id, total_applications, shortlisted_candidates, new_applications), "
+            + "tiers (tier, bucket_start) AS (VALUES ('" + MetricsRollup.TIER_DAY + "', ?::timestamp), ('"
+            + MetricsRollup.TIER_WEEK + "', ?::timestamp), ('" + MetricsRollup.TIER_MONTH + "', ?::timestamp)), "
+            + "rolled AS (INSERT INTO dashboard_rollups (recruiter_id, tier, bucket_start, total_applications, "
+            + "shortlisted_candidates, new_applications) "
+            + "SELECT h.recruiter_id, t.tier, t.bucket_start, h.total_applications, h.shortlisted_candidates, "
+            + "h.new_applications FROM written h CROSS JOIN tiers t "
+            + "ON CONFLICT (recruiter_id, tier, bucket_start) DO UPDATE SET "
+            + "total_applications = EXCLUDED.total_applications, "
+            + "shortlisted_candidates = EXCLUDED.shortlisted_candidates, "
+            + "new_applications = dashboard_rollups.new_applications + EXCLUDED.new_applications) "
+            + "SELECT count(*) FROM written";
+
+    private static final String REFRESH_TOTALS_SQL = "INSERT INTO dashboard_rollups (recruiter_id, tier, "
+            + "bucket_start, total_applications, shortlisted_candidates, new_applications) VALUES (?, ?, ?, ?, ?, 0) "
+            + "ON CONFLICT (recruiter_id, tier, bucket_start) DO UPDATE SET "
+            + "total_applications = EXCLUDED.total_applications, "
+            + "shortlisted_candidates = EXCLUDED.shortlisted_candidates";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int writeHour(Date hour, Date day, Date week, Date month) {
+        Timestamp hourStart = new Timestamp(hour.getTime());
+        Integer written = jdbcTemplate.queryForObject(WRITE_HOUR_SQL, Integer.class,
+                hourStart, hourStart, new Timestamp(day.getTime()),
+                new Timestamp(day.getTime()), new Timestamp(week.getTime()), new Timestamp(month.getTime()));
+        return written != null ? written : 0;
+    }
+
+    @Override
+    public void refreshTotals(Long recruiterId, String tier, Date bucketStart, long total, long shortlisted) {
+        jdbcTemplate.update(REFRESH_TOTALS_SQL, recruiterId, tier, new Timestamp(bucketStart.getTime()), total,
+                shortlisted);
+    }
+
+    @Override
+    public void refreshAllTotals(String tier, Date bucketStart, List<long[]> counts) {
+        Timestamp start = new Timestamp(bucketStart.getTime());
+        jdbcTemplate.batchUpdate(REFRESH_TOTALS_SQL, counts, counts.size(), (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setString(2, tier);
+            ps.setTimestamp(3, start);
+            ps.setLong(4, row[1]);
+            ps.setLong(5, row[2]);
+        });
+    }
+
+    @Override
+    public int deleteBefore(String tier, Date cutoff) {
+        return jdbcTemplate.update("DELETE FROM dashboard_rollups WHERE tier = ? AND bucket_start < ?", tier,
+                new Timestamp(cutoff.getTime()));
+    }
+}
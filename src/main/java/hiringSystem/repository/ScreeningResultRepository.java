@@ -0,0 +1,18 @@
+/**
+ * ScreeningResultRepository.java
+ * This interface extends JpaRepository to provide CRUD operations for the ScreeningResult entity.
+ */
+
+package hiringSystem.repository;
+
+import hiringSystem.model.ScreeningResult;
+
+import java.util.*;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ScreeningResultRepository extends JpaRepository<ScreeningResult, Long> {
+    Optional<ScreeningResult> findByResumeHashAndJobId(String resumeHash, Long jobId);
+
+    List<ScreeningResult> findByJobIdAndResumeHashIn(Long jobId, Collection<String> resumeHashes);
+}
@@ -0,0 +1,53 @@
+/**
+ * AuthenticatedUser.java
+ * Principal of a request authenticated with a JWT: the user's id, email and
+ * role. The email is the principal name, so Authentication.getName() keeps
+ * returning it.
+ */
+
+package hiringSystem.security;
+
+import java.util.List;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+
+    public AuthenticatedUser(Long userId, String email, String role) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -8,10 +8,12 @@ package hiringSystem.security;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,7 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserDetailService userDetailsService;
+    private PrincipalCache principalCache;
 
     /**
      * This method filters incoming requests to check for JWT tokens and
@@ -41,23 +43,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String header = request.getHeader("Authorization");
-        String email = null;
-        String jwt = null;
-
-        if (header != null && header.startsWith("Bearer ")) {
-            jwt = header.substring(7);
-            email = jwtUtil.extractEmail(jwt);
-        }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            if (jwtUtil.validateToken(jwt)) {
+        if (header != null && header.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser user = authenticate(header.substring(7));
+            if (user != null) {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        user, null, user.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Verify a token once and resolve its user. The account must still exist
+     * with the role and id the token was issued for; tokens issued before the
+     * id claim was added are matched on email and role only.
+     *
+     * @param jwt token from the Authorization header
+     * @return the authenticated user, or null if the token is not acceptable
+     */
+    private AuthenticatedUser authenticate(String jwt) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parse(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getSubject() == null) {
+            return null;
+        }
+        AuthenticatedUser user = principalCache.get(claims.getSubject());
+        if (user == null || !user.getRole().equalsIgnoreCase(claims.get("role", String.class))) {
+            return null;
+        }
+        Number userId = claims.get("uid", Number.class);
+        if (userId != null && userId.longValue() != user.getUserId()) {
+            return null;
+        }
+        return user;
+    }
 }
\ No newline at end of file
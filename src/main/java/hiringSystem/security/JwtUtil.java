@@ -2,10 +2,15 @@
  * JwtUtil.java
  * This class provides utility methods for generating, validating, and parsing JWT tokens.
  * It uses the io.jsonwebtoken library to handle JWT operations.
+ * The signing key and the parser are built once; the parser is immutable and
+ * shared by all requests.
  */
 
 package hiringSystem.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,50 +20,60 @@ import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Date;
 
+import javax.crypto.SecretKey;
+
 @Component
 public class JwtUtil {
-    @Value("${jwt.secretkey}")
-    private String secretKey;
-
     private static final long EXPIRATION_TIME = 86400000; // 24 hours in millisecond
 
-    public String generateToken(String email, String role) {
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${jwt.secretkey}") String secretKey) {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    public String generateToken(String email, String role, Long userId) {
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", role)
+                .claim("uid", userId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(SignatureAlgorithm.HS512, Keys.hmacShaKeyFor(secretKey.getBytes()))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verify a token and return all its claims: subject (email), role and
+     * uid (user id)
+     *
+     * @param token JWT
+     * @return verified claims
+     * @throws JwtException if the token is malformed, expired or not signed
+     *                      with our key
+     */
+    public Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parse(token).getSubject();
     }
 
     public String extractRole(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);
+        return parse(token).get("role", String.class);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                    .build()
-                    .parseClaimsJws(token);
+            parse(token);
             return true;
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+/**
+ * PrincipalCache.java
+ * Short-lived cache of users by email, so authenticating a request does not
+ * query the users table every time. Entries expire after
+ * security.principal-cache-ttl and are dropped explicitly when an account is
+ * deleted, so a stale account is never served for longer than the TTL.
+ * Unknown emails are not cached, so a newly registered account is found on
+ * its first request.
+ */
+
+package hiringSystem.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import hiringSystem.model.UserRole;
+import hiringSystem.repository.UserRoleRepository;
+
+@Component
+public class PrincipalCache {
+
+    // Expired entries are swept every this many loads
+    private static final int SWEEP_INTERVAL = 1024;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Value("${security.principal-cache-ttl:60s}")
+    private Duration ttl;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Get the user with an email, loading it if it is not cached or expired
+     *
+     * @param email email of the user
+     * @return the user, or null if there is no user with this email
+     */
+    public AuthenticatedUser get(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.loaded <= ttl.toMillis()) {
+            return entry.user;
+        }
+        UserRole userRole = userRoleRepository.findByEmail(email);
+        if (userRole == null) {
+            entries.remove(email);
+            return null;
+        }
+        AuthenticatedUser user = new AuthenticatedUser(userRole.getId(), userRole.getEmail(), userRole.getRole());
+        entries.put(email, new Entry(user, now));
+        sweep(now);
+        return user;
+    }
+
+    /**
+     * Drop the cached user with an email, e.g. after its account was deleted
+     * or its role changed
+     *
+     * @param email email of the user
+     */
+    public void invalidate(String email) {
+        entries.remove(email);
+    }
+
+    private void sweep(long now) {
+        if (loads.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            entries.values().removeIf(entry -> now - entry.loaded > ttl.toMillis());
+        }
+    }
+
+    private record Entry(AuthenticatedUser user, long loaded) {
+    }
+}
@@ -32,8 +32,6 @@ public class UserDetailService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         UserRole userRole = userRoleRepository.findByEmail(email);
-        System.out.println(
-                "Loaded user: " + (userRole != null ? userRole.getEmail() + ", " + userRole.getPassword() : "null"));
         if (userRole == null) {
             throw new UsernameNotFoundException("User not found with email: " + email);
         }
@@ -11,6 +11,9 @@ import hiringSystem.repository.AuditLogRepository;
 import hiringSystem.repository.UserRoleRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
+
+import hiringSystem.security.AuthenticatedUser;
+import hiringSystem.security.PrincipalCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,6 +36,9 @@ public class AdminService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     /**
      * Register a new admin
      * 
@@ -74,12 +80,12 @@ public class AdminService {
         if (auth == null || !auth.isAuthenticated()) {
             throw new RuntimeException("No authenticated admin found");
         }
-        String email = auth.getName();
-        UserRole userRole = userRoleRepository.findByEmail(email);
-        if (userRole == null || !"admin".equalsIgnoreCase(userRole.getRole())) {
+        // The JWT filter has already resolved the user's id and role
+        if (!(auth.getPrincipal() instanceof AuthenticatedUser user) || !"admin".equalsIgnoreCase(user.getRole())) {
             throw new RuntimeException("Authenticated user is not an admin");
         }
-        return userRole;
+        return userRoleRepository.findById(user.getUserId())
+                .orElseThrow(() -> new RuntimeException("Authenticated user is not an admin"));
     }
 
     /**
@@ -115,6 +121,7 @@ public class AdminService {
                 "Admin requested complete data deletion at " + new Date(),
                 role));
         userRoleRepository.delete(admin);
+        principalCache.invalidate(email);
     }
 
     /**
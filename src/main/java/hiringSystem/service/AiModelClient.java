@@ -0,0 +1,191 @@
+/**
+ * AiModelClient.java
+ * HTTP calls to the Flask model services: resume screening (single and
+ * batched) and skill matching (port 5001) and bias detection (port 5002).
+ */
+
+package hiringSystem.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import hiringSystem.model.Applications;
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.UserProfile;
+
+@Component
+public class AiModelClient {
+
+    @Autowired
+    private ModelServiceClient modelServiceClient;
+
+    @Autowired
+    private ApplicationScorer applicationScorer;
+
+    @Autowired
+    private BiasResultCache biasResultCache;
+
+    /**
+     * Call external resume screening API
+     * 
+     * @param resume   resume content
+     * @param fileType type of the resume file
+     * @param job      JobInfo object containing job details
+     * @return Map containing the resume screening results
+     */
+    public Map<String, Object> callResumeScreeningAPI(Resource resume, String fileType, JobInfo job) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        // Streamed from the resume store rather than buffered in memory
+        HttpHeaders resumeHeaders = new HttpHeaders();
+        resumeHeaders.setContentDispositionFormData("resume", "resume." + fileType);
+        body.add("resume", new HttpEntity<>(resume, resumeHeaders));
+        addJobRequirements(body, job);
+        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+        ResponseEntity<Map> response = modelServiceClient.exchange(
+                ModelService.RESUME,
+                "/screen_resume",
+                HttpMethod.POST,
+                requestEntity,
+                Map.class);
+        return response.getBody();
+    }
+
+    /**
+     * Call external batch resume screening API, screening several resumes for
+     * one job in a single request
+     *
+     * @param resumes   resume contents
+     * @param fileTypes types of the resume files, parallel to resumes
+     * @param job       JobInfo object containing job details
+     * @return screening results in the order of resumes; an entry holding an
+     *         "error" key failed on its own
+     */
+    public List<Map<String, Object>> callResumeScreeningBatchAPI(List<Resource> resumes, List<String> fileTypes,
+            JobInfo job) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        for (int i = 0; i < resumes.size(); i++) {
+            HttpHeaders resumeHeaders = new HttpHeaders();
+            resumeHeaders.setContentDispositionFormData("resumes", "resume" + i + "." + fileTypes.get(i));
+            body.add("resumes", new HttpEntity<>(resumes.get(i), resumeHeaders));
+        }
+        addJobRequirements(body, job);
+        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+        ResponseEntity<Map<String, List<Map<String, Object>>>> response = modelServiceClient.exchange(
+                ModelService.RESUME,
+                "/screen_resume_batch",
+                HttpMethod.POST,
+                requestEntity,
+                new ParameterizedTypeReference<Map<String, List<Map<String, Object>>>>() {
+                });
+        List<Map<String, Object>> results = response.getBody() != null ? response.getBody().get("results") : null;
+        if (results == null || results.size() != resumes.size()) {
+            throw new RuntimeException("Batch resume screening returned an unexpected response");
+        }
+        return results;
+    }
+
+    private static void addJobRequirements(MultiValueMap<String, Object> body, JobInfo job) {
+        List<String> requiredSkills = job.getRequiredSkills();
+        if (requiredSkills != null) {
+            for (String skill : requiredSkills) {
+                body.add("required_skills[]", skill);
+            }
+        }
+        List<String> preferredQualifications = job.getPreferredQualifications();
+        if (preferredQualifications != null) {
+            for (String qualification : preferredQualifications) {
+                body.add("preferred_qualifications[]", qualification);
+            }
+        }
+    }
+
+    /**
+     * Call external skill matching API
+     * 
+     * @param candidate UserProfile object containing candidate details
+     * @param job       JobInfo object containing job details
+     * @return skill match score
+     */
+    public int callSkillMatchingAPI(UserProfile candidate, JobInfo job) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("candidate_skills", candidate.getSkills());
+        requestBody.put("job_skills", job.getRequiredSkills());
+
+        try {
+            ResponseEntity<Map> response = modelServiceClient.post(
+                    ModelService.RESUME,
+                    "/match_skills",
+                    requestBody,
+                    Map.class);
+
+            return (int) response.getBody().get("skill_match_score");
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to call skill matching API: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Call external bias detection API
+     * 
+     * @param application Applications object containing application details
+     * 
+     * @return raw bias detection response
+     */
+    public String callBiasDetectionAPI(Applications application) {
+        return callBiasDetectionAPI(application, applicationScorer.calculateInterviewScore(application),
+                applicationScorer.calculatePersonalityScore(application));
+    }
+
+    /**
+     * Call external bias detection API with interview scores the caller has
+     * already computed
+     *
+     * @param application      Applications object containing application details
+     * @param interviewScore   interview score of the application
+     * @param personalityScore personality score of the application
+     * @return raw bias detection response
+     */
+    public String callBiasDetectionAPI(Applications application, int interviewScore, int personalityScore) {
+        UserProfile candidate = application.getCandidate();
+        JobInfo job = application.getJob();
+
+        Map<String, Object> candidateData = new HashMap<>();
+        candidateData.put("Gender", candidate.getGender());
+        candidateData.put("Age", candidate.getAge());
+        candidateData.put("ExperienceYears", candidate.getYearsOfExperience());
+        candidateData.put("EducationLevel", applicationScorer.mapEducationLevel(candidate.getEducationLevel()));
+        candidateData.put("DistanceFromCompany", applicationScorer.calculateLocationScore(candidate, job));
+        candidateData.put("PersonalityScore", personalityScore);
+        candidateData.put("SkillScore", applicationScorer.calculateSkillScore(candidate, job));
+        candidateData.put("HiringDecision", application.getStatus().equals("Shortlisted") ? 1 : 0);
+        candidateData.put("InterviewScore", interviewScore);
+        candidateData.put("PreviousCompanies", candidate.getPreviousCompanies());
+        candidateData.put("RecruitmentStrategy", job.getRecruitmentStrategy());
+
+        if (candidate.getGender() == null || candidate.getGender().trim().isEmpty()) {
+            candidate.setGender("Unknown");
+        }
+        Map<String, Object> request = Map.of("candidate_data", candidateData);
+
+        // Identical feature vectors get the same answer from the model
+        return biasResultCache.get(candidateData, () -> modelServiceClient.post(
+                ModelService.BIAS, "/analyze_bias", request, String.class).getBody());
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * ApplicationScorer.java
+ * Locally computed parts of an application's AI evaluation: interview,
+ * personality, skill and location scores, and the weighted overall score.
+ * Shared by the candidate service and the screening pipeline.
+ */
+
+package hiringSystem.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import hiringSystem.model.AiData;
+import hiringSystem.model.Applications;
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.UserProfile;
+
+@Component
+public class ApplicationScorer {
+
+    @Autowired
+    private InterviewSessionCache interviewSessionCache;
+
+    /**
+     * Calculate interview score based on technical and behavioral responses
+     * 
+     * @param application Application object
+     * @return calculated interview score
+     */
+    public int calculateInterviewScore(Applications application) {
+        return interviewSessionCache.get(application.getId()).getInterviewScore();
+    }
+
+    /**
+     * Calculate personality score based on interview responses
+     * 
+     * @param application Applications object
+     * @return calculated personality score
+     */
+    public int calculatePersonalityScore(Applications application) {
+        // Average of behavioral scores, 70 as the base score
+        return interviewSessionCache.get(application.getId()).getPersonalityScore();
+    }
+
+    /**
+     * Calculate skill score based on candidate's skills and job requirements
+     * 
+     * @param candidate UserProfile object containing candidate details
+     * @param job       JobInfo object containing job details
+     * @return calculated skill score
+     */
+    public int calculateSkillScore(UserProfile candidate, JobInfo job) {
+        Set<String> candidateSkills = new HashSet<>(candidate.getSkills());
+        Set<String> requiredSkills = new HashSet<>(job.getRequiredSkills());
+
+        // Basic skill match
+        Set<String> intersection = new HashSet<>(candidateSkills);
+        intersection.retainAll(requiredSkills);
+        double skillMatch = (double) intersection.size() / requiredSkills.size();
+
+        // Experience bonus
+        double experienceBonus = Math.min(candidate.getYearsOfExperience() / 5.0, 1.0);
+
+        // Education bonus
+        double educationBonus = getEducationBonus(candidate.getEducationLevel());
+
+        return (int) ((skillMatch * 0.6 + experienceBonus * 0.25 + educationBonus * 0.15) * 100);
+    }
+
+    /**
+     * Get education bonus based on education level
+     * 
+     * @param educationLevel education level of the candidate
+     * @return calculated education bonus
+     */
+    private double getEducationBonus(String educationLevel) {
+        return JobMatchScorer.educationBonus(educationLevel);
+    }
+
+    /**
+     * Calculate location score based on candidate's location and job location
+     * 
+     * @param candidate UserProfile object containing candidate details
+     * @param job       JobInfo object containing job details
+     * @return calculated location score
+     */
+    public int calculateLocationScore(UserProfile candidate, JobInfo job) {
+        if (candidate.isInSameMetroArea(job)) {
+            return 100; // Full score for same metro area
+        }
+
+        // Partial score for remote candidates based on work preference
+        return JobMatchScorer.remoteLocationScore(candidate.getPreferredJobTypes());
+    }
+
+    /**
+     * Map education level to a numerical value
+     * 
+     * @param educationLevel education level of the candidate
+     * @return mapped numerical value
+     */
+    public int mapEducationLevel(String educationLevel) {
+        switch (educationLevel) {
+            case "Bachelor's":
+                return 2;
+            case "Master's":
+                return 3;
+            case "PhD":
+                return 4;
+            default:
+                return 1;// Assume 1 is "High School" or baseline
+        }
+    }
+
+    /**
+     * Calculate overall score based on various factors
+     * 
+     * @param aiData AiData object containing AI-generated scores
+     * @return calculated overall score
+     */
+    public int calculateOverallScore(AiData aiData) {
+        // Weighted Overall Score: 30% Resume + 30% Behavioral + 30% Skills + 10%
+        // personlaity
+        return (int) Math.round(
+                (aiData.getResumeScore() * 0.3) +
+                        (aiData.getInterviewScore() * 0.3) +
+                        (aiData.getSkillMatchScore() * 0.3) +
+                        (aiData.getPersonalityScore() * 0.1));
+    }
+
+    /**
+     * Decide a completed interview from its overall score
+     *
+     * @param overallScore overall score of the application
+     * @return "Shortlisted" or "Rejected"
+     */
+    public String interviewDecision(int overallScore) {
+        return overallScore < 50 ? "Rejected" : "Shortlisted";
+    }
+}
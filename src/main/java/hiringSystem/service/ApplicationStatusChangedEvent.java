@@ -0,0 +1,54 @@
+/**
+ * ApplicationStatusChangedEvent.java
+ * Published when an application is created, changes status or is deleted.
+ */
+
+package hiringSystem.service;
+
+import hiringSystem.model.Applications;
+import hiringSystem.model.RecruiterProfile;
+
+public class ApplicationStatusChangedEvent {
+
+    private final Long recruiterId;
+    private final String previousStatus;
+    private final String status;
+
+    /**
+     * @param recruiterId    user ID of the recruiter who owns the job
+     * @param previousStatus status before the change, null for a new application
+     * @param status         status after the change, null for a deleted application
+     */
+    public ApplicationStatusChangedEvent(Long recruiterId, String previousStatus, String status) {
+        this.recruiterId = recruiterId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+    }
+
+    /**
+     * Create the event for a change of an application
+     *
+     * @param application    the application, with its job loaded
+     * @param previousStatus status before the change, null for a new application
+     * @param status         status after the change, null for a deleted application
+     * @return event
+     */
+    public static ApplicationStatusChangedEvent of(Applications application, String previousStatus,
+            String status) {
+        RecruiterProfile recruiter = application.getJob().getRecruiter();
+        return new ApplicationStatusChangedEvent(recruiter != null ? recruiter.getUserId() : null,
+                previousStatus, status);
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ * BatchScreeningService.java
+ * Bulk re-screening of every resume submitted to a job, e.g. after the
+ * recruiter changed the job's requirements. Distinct resumes are sent to the
+ * screening model in batches (screening.batch-size, 32 by default) and all
+ * affected AiData rows are written back in one JDBC batch, with their skill
+ * scores recomputed against the current requirements. Progress is kept per
+ * job for polling.
+ */
+
+package hiringSystem.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import hiringSystem.model.AiData;
+import hiringSystem.model.Applications;
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.RescreenProgress;
+import hiringSystem.model.ScreeningResult;
+import hiringSystem.repository.AIDataRepository;
+import hiringSystem.repository.ApplicationRepository;
+import hiringSystem.repository.JobInfoRepository;
+import hiringSystem.repository.ScreeningResultRepository;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class BatchScreeningService {
+
+    @Autowired
+    private AIDataRepository aiDataRepository;
+
+    @Autowired
+    private ApplicationRepository applicationsRepository;
+
+    @Autowired
+    private JobInfoRepository jobInfoRepository;
+
+    @Autowired
+    private ScreeningResultRepository screeningResultRepository;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private AiModelClient aiModelClient;
+
+    @Autowired
+    private ApplicationScorer applicationScorer;
+
+    @Autowired
+    private ScreeningPipeline screeningPipeline;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${screening.batch-size:32}")
+    private int batchSize;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, RescreenProgress> progress = new ConcurrentHashMap<>();
+
+    /**
+     * Start re-screening all resumes submitted to a job. If a re-screening of
+     * the job is already running, its progress is returned instead.
+     *
+     * @param jobId ID of the job
+     * @return progress of the re-screening
+     */
+    public RescreenProgress rescreenJob(Long jobId) {
+        RescreenProgress started = new RescreenProgress(jobId);
+        RescreenProgress current = progress.compute(jobId,
+                (id, existing) -> existing != null && RescreenProgress.RUNNING.equals(existing.getState())
+                        ? existing
+                        : started);
+        if (current == started) {
+            executor.execute(() -> rescreen(jobId, started));
+        }
+        return current;
+    }
+
+    /**
+     * Get the progress of the last re-screening of a job
+     *
+     * @param jobId ID of the job
+     * @return Optional containing the progress, empty if the job was never
+     *         re-screened
+     */
+    public Optional<RescreenProgress> getProgress(Long jobId) {
+        return Optional.ofNullable(progress.get(jobId));
+    }
+
+    private void rescreen(Long jobId, RescreenProgress progress) {
+        try {
+            JobInfo job = jobInfoRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            List<AiData> aiData = loadAiData(jobId);
+
+            // Applications that were never screened go through the full pipeline
+            Set<Long> screened = new HashSet<>();
+            for (AiData row : aiData) {
+                screened.add(row.getApplication().getId());
+            }
+            for (Applications application : applicationsRepository.findByJobId(jobId)) {
+                if (!screened.contains(application.getId())) {
+                    screeningPipeline.submit(application.getId());
+                }
+            }
+
+            // Several applications can share one stored resume
+            Map<String, String> fileTypes = new LinkedHashMap<>();
+            for (AiData row : aiData) {
+                Applications application = row.getApplication();
+                if (application.getResumeHash() != null) {
+                    fileTypes.putIfAbsent(application.getResumeHash(), application.getResumeFileType());
+                }
+            }
+            progress.setTotalResumes(fileTypes.size());
+
+            List<String> hashes = new ArrayList<>(fileTypes.keySet());
+            Map<String, ScreeningResult> results = new HashMap<>();
+            for (int from = 0; from < hashes.size(); from += batchSize) {
+                List<String> batch = hashes.subList(from, Math.min(from + batchSize, hashes.size()));
+                try {
+                    results.putAll(screenBatch(job, batch, fileTypes, progress));
+                } catch (RuntimeException e) {
+                    // Keep the previous scores for this batch and carry on
+                    progress.resumesFailed(batch.size());
+                    progress.setError(e.getMessage());
+                }
+            }
+
+            // Skill scores follow the changed requirements even where the
+            // resume could not be re-screened
+            for (AiData row : aiData) {
+                ScreeningResult result = results.get(row.getApplication().getResumeHash());
+                if (result != null) {
+                    row.setScreeningResult(result);
+                    row.setResumeScore(result.getResumeScore());
+                }
+                row.setSkillMatchScore(applicationScorer.calculateSkillScore(row.getApplication().getCandidate(), job));
+                row.setOverallScore(applicationScorer.calculateOverallScore(row));
+                row.setAiFeedback(screeningPipeline.generateAIFeedback(row));
+            }
+            aiDataRepository.batchUpdateScreening(aiData);
+            progress.setUpdatedApplications(aiData.size());
+            progress.setState(RescreenProgress.COMPLETED);
+        } catch (RuntimeException e) {
+            progress.setError(e.getMessage());
+            progress.setState(RescreenProgress.FAILED);
+        }
+    }
+
+    /**
+     * Load the AiData of a job's applications with the candidate skills the
+     * skill score reads, so they can be used outside the persistence context
+     *
+     * @param jobId ID of the job
+     * @return detached AiData objects
+     */
+    private List<AiData> loadAiData(Long jobId) {
+        return new TransactionTemplate(transactionManager).execute(tx -> {
+            List<AiData> aiData = aiDataRepository.findByApplication_JobId(jobId);
+            for (AiData row : aiData) {
+                Hibernate.initialize(row.getApplication().getCandidate().getSkills());
+            }
+            return aiData;
+        });
+    }
+
+    /**
+     * Screen one batch of resumes with a single model call and store the
+     * results, replacing earlier results for the same resume and job
+     *
+     * @param job       job the resumes were submitted to
+     * @param hashes    keys of the stored resumes
+     * @param fileTypes file type of each resume
+     * @param progress  progress to report to
+     * @return stored results by resume key
+     */
+    private Map<String, ScreeningResult> screenBatch(JobInfo job, List<String> hashes,
+            Map<String, String> fileTypes, RescreenProgress progress) {
+        List<String> present = new ArrayList<>();
+        List<Resource> resumes = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (String hash : hashes) {
+            if (resumeStore.exists(hash)) {
+                present.add(hash);
+                resumes.add(resumeStore.load(hash));
+                types.add(fileTypes.get(hash) != null ? fileTypes.get(hash) : "pdf");
+            }
+        }
+        int failed = hashes.size() - present.size();
+        if (present.isEmpty()) {
+            progress.resumesFailed(failed);
+            return Map.of();
+        }
+
+        List<Map<String, Object>> responses = aiModelClient.callResumeScreeningBatchAPI(resumes, types, job);
+        Map<String, ScreeningResult> existing = new HashMap<>();
+        for (ScreeningResult result : screeningResultRepository.findByJobIdAndResumeHashIn(job.getId(), present)) {
+            existing.put(result.getResumeHash(), result);
+        }
+        List<ScreeningResult> toSave = new ArrayList<>();
+        for (int i = 0; i < present.size(); i++) {
+            Map<String, Object> response = responses.get(i);
+            if (response == null || response.containsKey("error")) {
+                failed++;
+                continue;
+            }
+            ScreeningResult result = existing.get(present.get(i));
+            if (result == null) {
+                result = new ScreeningResult();
+                result.setResumeHash(present.get(i));
+                result.setJobId(job.getId());
+            }
+            ScreeningPipeline.applyResponse(result, response);
+            toSave.add(result);
+        }
+
+        Map<String, ScreeningResult> saved = new HashMap<>();
+        for (ScreeningResult result : screeningResultRepository.saveAll(toSave)) {
+            saved.put(result.getResumeHash(), result);
+        }
+        progress.resumesScreened(saved.size());
+        progress.resumesFailed(failed);
+        return saved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * BiasResultCache.java
+ * Bounded LRU cache of bias model responses keyed by a SHA-256 hash of the
+ * canonical feature map, so candidates with identical feature vectors share
+ * one /analyze_bias call. Entries expire after bias.cache.ttl. The bias
+ * service's model version is polled every bias.cache.version-poll; when it
+ * changes the whole cache is dropped, and entries from any other version are
+ * never served.
+ */
+
+package hiringSystem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class BiasResultCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ModelServiceClient modelServiceClient;
+
+    @Value("${bias.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${bias.cache.ttl:1h}")
+    private Duration ttl;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    private String modelVersion;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void registerMetrics() {
+        hits = Counter.builder("bias.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("bias.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("bias.cache.size", this, BiasResultCache::size).register(meterRegistry);
+        Gauge.builder("bias.cache.hit.ratio", this, BiasResultCache::hitRatio)
+                .description("Share of bias requests answered from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the bias response for a feature map, calling the model only if no
+     * fresh response for an identical feature map is cached. Error responses
+     * and responses that are not JSON are not cached.
+     *
+     * @param features  feature map sent to /analyze_bias
+     * @param loader    call to the bias model
+     * @return raw bias detection response
+     */
+    public String get(Map<String, Object> features, Supplier<String> loader) {
+        String key = key(features);
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.created <= ttl.toMillis()
+                    && Objects.equals(entry.modelVersion, modelVersion)) {
+                hits.increment();
+                return entry.body;
+            }
+        }
+        misses.increment();
+
+        // Concurrent misses for the same key may both call the model; the last one wins
+        String body = loader.get();
+        JsonNode response = parse(body);
+        if (response == null || response.has("error")) {
+            return body;
+        }
+        String version = response.path("model_version").asText(null);
+        if (!isCurrent(version)) {
+            // Either the model changed since the last poll or this is a late
+            // response from the previous model; the service decides which
+            refreshModelVersion();
+        }
+        synchronized (this) {
+            if (modelVersion == null && version != null) {
+                modelVersion = version; // Version not polled yet
+            }
+            if (Objects.equals(version, modelVersion)) {
+                entries.put(key, new Entry(body, version, now));
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Ask the bias service for its model version and drop the cache if it
+     * changed. A failed poll leaves the cache as it is.
+     */
+    @Scheduled(fixedDelayString = "${bias.cache.version-poll:1m}")
+    public void refreshModelVersion() {
+        String version;
+        try {
+            Map<?, ?> response = modelServiceClient.exchange(ModelService.BIAS, "/model_version", HttpMethod.GET,
+                    HttpEntity.EMPTY, Map.class).getBody();
+            version = response != null ? (String) response.get("model_version") : null;
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (version != null) {
+            modelVersion(version);
+        }
+    }
+
+    /**
+     * Record the bias model version currently served, dropping every cached
+     * response if it differs from the known version
+     *
+     * @param version model version reported by the bias service
+     */
+    public synchronized void modelVersion(String version) {
+        if (!version.equals(modelVersion)) {
+            modelVersion = version;
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Drop every cached response, e.g. after the bias model was retrained
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized boolean isCurrent(String version) {
+        return modelVersion == null || Objects.equals(version, modelVersion);
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    /**
+     * Hash of the feature map with its keys in sorted order, so the same
+     * features give the same key regardless of map type or insertion order
+     */
+    static String key(Map<String, Object> features) {
+        StringBuilder canonical = new StringBuilder();
+        for (Map.Entry<String, Object> feature : new TreeMap<>(features).entrySet()) {
+            // Length prefixes and type tags keep distinct maps apart, e.g.
+            // keys or values containing separators, or 3 and "3.0"
+            appendField(canonical, feature.getKey());
+            Object value = feature.getValue();
+            if (value == null) {
+                canonical.append('-');
+            } else if (value instanceof Number number) {
+                // 3 and 3.0 are the same feature value
+                canonical.append('n');
+                appendField(canonical, Double.toString(number.doubleValue()));
+            } else {
+                canonical.append('s');
+                appendField(canonical, value.toString());
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void appendField(StringBuilder canonical, String value) {
+        canonical.append(value.length()).append(':').append(value);
+    }
+
+    private static JsonNode parse(String body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record Entry(String body, String modelVersion, long created) {
+    }
+}
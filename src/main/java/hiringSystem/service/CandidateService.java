@@ -6,41 +6,48 @@
 package hiringSystem.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.hibernate.Hibernate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import hiringSystem.model.*;
 import hiringSystem.repository.*;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import hiringSystem.security.AuthenticatedUser;
+import hiringSystem.security.PrincipalCache;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Limit;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 @Service
 public class CandidateService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int RECOMMENDATION_COUNT = 5;
+
     @Autowired
     private UserRepository userProfileRepository;
 
@@ -70,7 +77,41 @@ public class CandidateService {
     private AuditLogRepository auditLogRepository;
 
     @Autowired
-    private RestTemplate restTemplate; // For API calls
+    private ModelServiceClient modelServiceClient; // For API calls
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobMatchScorer jobMatchScorer;
+
+    @Autowired
+    private JobRecommendationEngine jobRecommendationEngine;
+
+    @Autowired
+    private ApplicationScorer applicationScorer;
+
+    @Autowired
+    private ScreeningPipeline screeningPipeline;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private InterviewSessionCache interviewSessionCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    // Must stay below spring.mvc.async.request-timeout
+    @Value("${interview.question-timeout:50s}")
+    private Duration questionTimeout;
 
     /**
      * Register a new user with a specific role (e.g., candidate, recruiter)
@@ -135,13 +176,13 @@ public class CandidateService {
         if (auth == null || !auth.isAuthenticated()) {
             throw new RuntimeException("No authenticated candidate found");
         }
-        String email = auth.getName();
-        UserRole userRole = userRoleRepository.findByEmail(email);
-        if (userRole == null || !"candidate".equalsIgnoreCase(userRole.getRole())) {
+        // The JWT filter has already resolved the user's id and role
+        if (!(auth.getPrincipal() instanceof AuthenticatedUser user)
+                || !"candidate".equalsIgnoreCase(user.getRole())) {
             throw new RuntimeException("Authenticated user is not a candidate");
         }
-        return userProfileRepository.findByUser(userRole)
-                .orElseThrow(() -> new RuntimeException("Candidate profile not found for email: " + email));
+        return userProfileRepository.findById(user.getUserId())
+                .orElseThrow(() -> new RuntimeException("Candidate profile not found for email: " + user.getEmail()));
     }
 
     /**
@@ -201,30 +242,63 @@ public class CandidateService {
      * @param location    job location
      * @param workType    type of work (e.g., full-time, part-time)
      * @param salaryRange salary range
-     * @return List of JobInfo objects matching the search criteria
+     * @param cursor      id of the last job on the previous page, null for the
+     *                    first page
+     * @param size        page size
+     * @return page of JobInfo objects matching the search criteria
      * 
      */
-    public List<JobInfo> searchJobs(String keyword, String location, String workType, String salaryRange) {
-        return jobInfoRepository.findAll().stream()
-                .filter(job -> (keyword == null || job.getTitle().toLowerCase().contains(keyword.toLowerCase()))
-                        || (location == null || job.getCity().equalsIgnoreCase(location))
-                        || (workType == null || job.getWorkType().equalsIgnoreCase(workType))
-                        || (salaryRange == null || job.getSalaryRange().equalsIgnoreCase(salaryRange)))
-                .collect(Collectors.toList());
+    public CursorPage<JobInfo> searchJobs(String keyword, String location, String workType, String salaryRange,
+            Long cursor, int size) {
+        long[] jobIds = jobSearchIndex.search(keyword, location, workType, salaryRange);
+        int limit = pageSize(size);
+        int from = 0;
+        if (cursor != null) {
+            int pos = Arrays.binarySearch(jobIds, cursor);
+            from = pos >= 0 ? pos + 1 : -pos - 1;
+        }
+        int to = Math.min(jobIds.length, from + limit);
+        if (from >= to) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<JobInfo> jobs = jobInfoRepository
+                .findByIdInOrderByIdAsc(Arrays.stream(jobIds, from, to).boxed().toList());
+        return new CursorPage<>(jobs, to < jobIds.length ? jobIds[to - 1] : null);
     }
 
     /**
      * Get all jobs
      * 
-     * @return List of all JobInfo objects
+     * @param cursor id of the last job on the previous page, null for the first
+     *               page
+     * @param size   page size
+     * @return page of JobInfo objects
      **/
-    public List<JobInfo> getAllJobs() {
-        return jobInfoRepository.findAll();
+    public CursorPage<JobInfo> getAllJobs(Long cursor, int size) {
+        int limit = pageSize(size);
+        // Fetch one extra row to know whether another page exists
+        List<JobInfo> jobs = jobInfoRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, Limit.of(limit + 1));
+        if (jobs.size() <= limit) {
+            return new CursorPage<>(jobs, null);
+        }
+        List<JobInfo> page = jobs.subList(0, limit);
+        return new CursorPage<>(page, page.get(limit - 1).getId());
+    }
 
+    /**
+     * Clamp a requested page size to the supported range
+     * 
+     * @param size requested page size
+     * @return page size between 1 and MAX_PAGE_SIZE
+     */
+    private int pageSize(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
     }
 
     /**
-     * Apply for a job
+     * Apply for a job. The application is saved as "Under Review" and queued
+     * for AI screening, which completes in the background.
      * 
      * @param jobId      ID of the job
      * @param resumeFile MultipartFile containing the resume
@@ -235,13 +309,6 @@ public class CandidateService {
         JobInfo job = jobInfoRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
-        byte[] resumeBytes;
-        try {
-            resumeBytes = resumeFile.getBytes();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to process resume file", e);
-        }
-
         String originalFilename = resumeFile.getOriginalFilename();
         if (originalFilename == null) {
             throw new RuntimeException("Resume file name is null");
@@ -257,16 +324,27 @@ public class CandidateService {
             throw new RuntimeException("Unsupported file type: " + originalFilename);
         }
 
+        String resumeHash;
+        try (InputStream content = resumeFile.getInputStream()) {
+            resumeHash = resumeStore.store(content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process resume file", e);
+        }
+
         Applications application = new Applications();
         application.setCandidate(candidate);
         application.setJob(job);
-        application.setresumeByte(resumeBytes);
+        application.setResumeHash(resumeHash);
+        application.setResumeFileType(fileType);
         application.setStatus("Under Review");
         application.setApplicationDate(new Date());
 
-        Applications savedApplication = applicationsRepository.save(application);
-        AiData aiData = performAIScreening(savedApplication, fileType);
-        aiDataRepository.save(aiData);
+        // The application and its recruiter's counters commit together
+        Applications savedApplication = new TransactionTemplate(transactionManager).execute(tx -> {
+            Applications saved = applicationsRepository.save(application);
+            eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(saved, null, "Under Review"));
+            return saved;
+        });
 
         int matchScore = calculateJobMatchScore(candidate, job);
         JobScore jobScore = new JobScore();
@@ -275,259 +353,35 @@ public class CandidateService {
         jobScore.setMatchScore(matchScore);
         jobScoreRepository.save(jobScore);
 
+        screeningPipeline.submit(savedApplication.getId());
         return savedApplication;
     }
 
     /**
-     * Get interview responses for a specific application
+     * Get the AI screening status of an application
      * 
      * @param applicationId ID of the application
-     * @return List of InterviewResponse objects
+     * @return Optional containing the screening status if the application has
+     *         been screened or is queued, otherwise empty
      */
-    public List<InterviewResponse> getInterviewResponses(Long applicationId) {
-        return interviewResponseRepository.findByApplicationId(applicationId);
+    public Optional<ScreeningStatus> getScreeningStatus(Long applicationId) {
+        return screeningPipeline.getStatus(applicationId);
     }
 
     /**
-     * Calculate personality score based on interview responses
+     * Get interview responses for a specific application
      * 
-     * @param application Application object
-     * @return calculated personality score
+     * @param applicationId ID of the application
+     * @return List of InterviewResponse objects
      */
-    private int calculateInterviewScore(Applications application) {
-        List<InterviewResponse> responses = interviewResponseRepository.findByApplicationId(application.getId());
-
-        return (int) responses.stream()
-                .filter(r -> "behavioral".equals(r.getQuestionType()) || "technical".equals(r.getQuestionType()))
-                .mapToInt(InterviewResponse::getAiScore)
-                .average()
-                .orElse(0);
-    }
-
-    /**
-     * Perform AI screening on the application
-     * 
-     * @param application Application object
-     * @param fileType    type of the resume file
-     * @return AiData object containing AI-generated scores and feedback
-     **/
-    private AiData performAIScreening(Applications application, String fileType) {
-        AiData aiData = new AiData();
-        aiData.setApplication(application);
-
-        int resumeScore = callResumeScreeningAPI(
-                application.getresumeByte(),
-                fileType,
-                application.getJob());
-        aiData.setResumeScore(resumeScore);
-
-        int interviewScore = calculateInterviewScore(application);
-        aiData.setInterviewScore(interviewScore);
-
-        int skillMatchScore = callSkillMatchingAPI(application.getCandidate(), application.getJob());
-        aiData.setSkillMatchScore(skillMatchScore);
-
-        String biasDetectionResult = callBiasDetectionAPI(application);
-        aiData.setBiasDetectionResult(biasDetectionResult);
-
-        int personalityScore = calculatePersonalityScore(application);
-        aiData.setPersonalityScore(personalityScore);
-
-        int overallScore = calculateOverallScore(aiData);
-        aiData.setOverallScore(overallScore);
-
-        aiData.setAiFeedback(generateAIFeedback(aiData));
-        return aiData;
+    public List<InterviewResponse> getInterviewResponses(Long applicationId) {
+        return interviewResponseRepository.findByApplicationId(applicationId);
     }
 
     public Optional<Bias> getBiasForApplication(Long applicationId) {
         return biasRepository.findByApplicationId(applicationId);
     }
 
-    /**
-     * Call external resume screening API
-     * 
-     * @param resumeBytes byte array of the resume
-     * @param fileType    type of the resume file
-     * @param job         JobInfo object containing job details
-     * @return resume score
-     */
-    private int callResumeScreeningAPI(byte[] resumeBytes, String fileType, JobInfo job) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("resume", new ByteArrayResource(resumeBytes) {
-            @Override
-            public String getFilename() {
-                return "resume." + fileType;
-            }
-        });
-        List<String> requiredSkills = job.getRequiredSkills();
-        if (requiredSkills != null) {
-            for (String skill : requiredSkills) {
-                body.add("required_skills[]", skill);
-            }
-        }
-        List<String> preferredQualifications = job.getPreferredQualifications();
-        if (preferredQualifications != null) {
-            for (String qualification : preferredQualifications) {
-                body.add("preferred_qualifications[]", qualification);
-            }
-        }
-        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-        ResponseEntity<Map> response = restTemplate.exchange(
-                "http://localhost:5001/screen_resume",
-                HttpMethod.POST,
-                requestEntity,
-                Map.class);
-        Number resumeScore = (Number) response.getBody().get("resume_score");
-        return resumeScore != null ? resumeScore.intValue() : 0; // Default to 0 if null
-    }
-
-    /**
-     * Generate detailed AI feedback
-     * 
-     * @param aiData AiData object containing AI-generated scores
-     * @return formatted feedback string
-     */
-    private String generateAIFeedback(AiData aiData) {
-        Map<String, Object> resumeScreeningDetails = callResumeScreeningAPIDetails(aiData.getApplication());
-
-        // Safely convert potential Double values to Integer
-        Number confidence = (Number) resumeScreeningDetails.get("confidence");
-        Number relevanceScore = (Number) resumeScreeningDetails.get("relevance_score");
-
-        int confidenceInt = confidence != null ? confidence.intValue() : 0;
-        int relevanceScoreInt = relevanceScore != null ? relevanceScore.intValue() : 0;
-
-        return String.format(
-                "----- AI Evaluation Summary---\n" +
-                        "Resume Score     : %d/100\n" +
-                        " - Confidence    : %d%%\n" +
-                        " - Relevance     : %d%%\n" +
-                        "Behavioral Score : %d/100\n" +
-                        "Skills Score     : %d/100\n" +
-                        "Matched Skills   : %s",
-                aiData.getResumeScore(),
-                confidenceInt,
-                relevanceScoreInt,
-                aiData.getInterviewScore(),
-                aiData.getSkillMatchScore(),
-                resumeScreeningDetails.get("matched_skills"));
-    }
-
-    /**
-     * Helper method to get full resume screening details
-     * 
-     * @param application Applications object
-     * @return Map containing detailed resume screening results
-     **/
-    private Map<String, Object> callResumeScreeningAPIDetails(Applications application) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("resume", new ByteArrayResource(application.getresumeByte()) {
-            @Override
-            public String getFilename() {
-                return "resume.pdf";
-            }
-        });
-        body.add("required_skills[]", application.getJob().getRequiredSkills());
-        body.add("preferred_qualifications[]", application.getJob().getPreferredQualifications());
-
-        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-        ResponseEntity<Map> response = restTemplate.exchange(
-                "http://localhost:5001/screen_resume",
-                HttpMethod.POST,
-                requestEntity,
-                Map.class);
-        return response.getBody();
-    }
-
-    /**
-     * Call external skill matching API
-     * 
-     * @param candidate UserProfile object containing candidate details
-     * @param job       JobInfo object containing job details
-     * @return skill match score
-     */
-    private int callSkillMatchingAPI(UserProfile candidate, JobInfo job) {
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("candidate_skills", candidate.getSkills());
-        requestBody.put("job_skills", job.getRequiredSkills());
-
-        try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    "http://localhost:5001/match_skills", // Updated endpoint
-                    requestBody,
-                    Map.class);
-
-            return (int) response.getBody().get("skill_match_score");
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to call skill matching API: " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Call external bias detection API
-     * 
-     * @param application Applications object containing application details
-     * 
-     * @return bias detection result
-     */
-    private String callBiasDetectionAPI(Applications application) {
-        UserProfile candidate = application.getCandidate();
-        JobInfo job = application.getJob();
-
-        Map<String, Object> candidateData = new HashMap<>();
-        candidateData.put("Gender", candidate.getGender());
-        candidateData.put("Age", candidate.getAge());
-        candidateData.put("ExperienceYears", candidate.getYearsOfExperience());
-        candidateData.put("EducationLevel", mapEducationLevel(candidate.getEducationLevel()));
-        candidateData.put("DistanceFromCompany", calculateLocationScore(candidate, job));
-        candidateData.put("PersonalityScore", calculatePersonalityScore(application));
-        candidateData.put("SkillScore", calculateSkillScore(candidate, job));
-        candidateData.put("HiringDecision", application.getStatus().equals("Shortlisted") ? 1 : 0);
-        candidateData.put("InterviewScore", calculateInterviewScore(application));
-        candidateData.put("PreviousCompanies", candidate.getPreviousCompanies());
-        candidateData.put("RecruitmentStrategy", job.getRecruitmentStrategy());
-
-        if (candidate.getGender() == null || candidate.getGender().trim().isEmpty()) {
-            candidate.setGender("Unknown");
-        }
-        Map<String, Object> request = Map.of("candidate_data", candidateData);
-
-        ResponseEntity<String> response = restTemplate.postForEntity(
-                "http://localhost:5002/analyze_bias", request, String.class);
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response.getBody());
-
-            double biasScoreGender = jsonNode.get("bias_score_gender").asDouble();
-            double biasScoreAge = jsonNode.get("bias_score_age").asDouble();
-            int predictedDecision = jsonNode.get("predicted_decision").asInt();
-            boolean biasDetected = jsonNode.get("bias_detected").asBoolean();
-            Optional<Bias> existingBias = biasRepository.findByApplicationId(application.getId());
-            Bias bias;
-            if (existingBias.isPresent()) {
-                bias = existingBias.get();
-                bias.setBiasScoreGender(biasScoreGender);
-                bias.setBiasScoreAge(biasScoreAge);
-                bias.setPredictedDecision(predictedDecision);
-                bias.setBiasDetected(biasDetected);
-            } else {
-                bias = new Bias(application, biasScoreGender, biasScoreAge, predictedDecision, biasDetected);
-            }
-            biasRepository.save(bias);
-
-            return response.getBody();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse bias detection API response: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * Get bias detection results for a specific application
      * 
@@ -556,28 +410,44 @@ public class CandidateService {
      **/
     public List<JobInfo> getJobRecommendations() {
         UserProfile candidate = getCurrentCandidate();
-        List<JobInfo> allJobs = jobInfoRepository.findAll();
-        List<JobScore> existingScores = jobScoreRepository.findByCandidate(candidate);
-        Map<JobInfo, Integer> jobScores = new HashMap<>();
-        for (JobScore score : existingScores) {
-            jobScores.put(score.getJob(), score.getMatchScore());
+        List<JobInfoRepository.MatchFields> allJobs = jobInfoRepository.findAllMatchFields();
+        Map<Long, Integer> storedScores = new HashMap<>();
+        for (JobScoreRepository.ScoreFields score : jobScoreRepository
+                .findScoreFieldsByCandidateId(candidate.getUserId())) {
+            storedScores.put(score.getJobId(), score.getMatchScore());
         }
-        for (JobInfo job : allJobs) {
-            if (!jobScores.containsKey(job)) {
-                int matchScore = calculateJobMatchScore(candidate, job);
-                jobScores.put(job, matchScore);
-                JobScore jobScore = new JobScore();
-                jobScore.setCandidate(candidate);
-                jobScore.setJob(job);
-                jobScore.setMatchScore(matchScore);
-                jobScoreRepository.save(jobScore);
+
+        int n = allJobs.size();
+        JobMatchScorer.JobProfile[] profiles = new JobMatchScorer.JobProfile[n];
+        long[] jobIds = new long[n];
+        int[] scores = new int[n];
+        for (int i = 0; i < n; i++) {
+            JobInfoRepository.MatchFields job = allJobs.get(i);
+            profiles[i] = jobMatchScorer.profile(job);
+            jobIds[i] = job.getId();
+            scores[i] = storedScores.getOrDefault(job.getId(), JobRecommendationEngine.UNSCORED);
+        }
+        int[] best = jobRecommendationEngine.topK(jobMatchScorer.compile(candidate), profiles, jobIds, scores,
+                RECOMMENDATION_COUNT);
+
+        // Persist the newly computed scores in one batch
+        long[] newJobIds = new long[n];
+        int[] newScores = new int[n];
+        int newCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (!storedScores.containsKey(jobIds[i])) {
+                newJobIds[newCount] = jobIds[i];
+                newScores[newCount++] = scores[i];
             }
         }
-
-        return jobScores.entrySet().stream()
-                .sorted(Map.Entry.<JobInfo, Integer>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .limit(5)
+        jobScoreRepository.batchInsert(candidate.getUserId(), newJobIds, newScores, newCount);
+
+        List<Long> bestIds = Arrays.stream(best).mapToObj(i -> jobIds[i]).toList();
+        Map<Long, JobInfo> jobsById = jobInfoRepository.findByIdInOrderByIdAsc(bestIds).stream()
+                .collect(Collectors.toMap(JobInfo::getId, job -> job));
+        return bestIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -589,158 +459,176 @@ public class CandidateService {
      * @return calculated match score
      */
     private int calculateJobMatchScore(UserProfile candidate, JobInfo job) {
-        int matchScore = 0;
-
-        // Skill matching (40% weight)
-        Set<String> candidateSkills = new HashSet<>(candidate.getSkills());
-        Set<String> requiredSkills = new HashSet<>(job.getRequiredSkills());
-        Set<String> skillIntersection = new HashSet<>(candidateSkills);
-        skillIntersection.retainAll(requiredSkills);
-        double skillMatch = requiredSkills.isEmpty() ? 0 : (double) skillIntersection.size() / requiredSkills.size();
-        matchScore += (int) (skillMatch * 40);
-
-        // Experience matching (30% weight)
-        double experienceMatch = Math.min(candidate.getYearsOfExperience() / 5.0, 1.0);
-        matchScore += (int) (experienceMatch * 30);
-
-        // Location matching (20% weight)
-        int locationScore = calculateLocationScore(candidate, job);
-        matchScore += (int) (locationScore * 0.20);
-
-        // Education matching (10% weight)
-        double educationBonus = getEducationBonus(candidate.getEducationLevel());
-        matchScore += (int) (educationBonus * 10);
-
-        return Math.clamp(matchScore, 0, 100);
+        return jobMatchScorer.score(candidate, job);
     }
 
-    @Transactional
-    public String startInterview(Long applicationId) {
+    public Mono<String> startInterview(Long applicationId) {
         return getNextQuestion(applicationId);
     }
 
     /**
-     * Get the next interview question for the chatbot interview
+     * Get the next interview question for the chatbot interview.
+     * A question prefetched while the previous answer was evaluated is used
+     * if there is one; otherwise the chatbot is asked now. The question is
+     * saved in a short transaction afterwards; no connection or thread is
+     * held while the chatbot generates the question. Waiting for a failed
+     * prefetch and asking again can take two chatbot read timeouts, so the
+     * wait is bounded by interview.question-timeout.
      * 
      * @param applicationId ID of the application
-     * @return the next interview question
+     * @return Mono emitting the next interview question
      */
-    @Transactional
-    public String getNextQuestion(Long applicationId) {
-        Applications application = applicationsRepository.findById(applicationId)
-                .orElseThrow(() -> new RuntimeException("Application not found"));
-        List<InterviewResponse> responses = interviewResponseRepository.findByApplicationId(applicationId);
-
-        long technicalCount = responses.stream().filter(r -> "technical".equals(r.getQuestionType())).count();
-        long behavioralCount = responses.stream().filter(r -> "behavioral".equals(r.getQuestionType())).count();
-        System.out.println("Technical count: " + technicalCount + ", Behavioral count: " + behavioralCount);
-
-        JobInfo job = application.getJob();
-        Map<String, Object> questionRequest = new HashMap<>();
-        questionRequest.put("job_title", job.getTitle());
-        questionRequest.put("required_skills", job.getRequiredSkills());
-        questionRequest.put("preferred_qualifications", job.getPreferredQualifications());
-        questionRequest.put("technical_count", technicalCount);
-        questionRequest.put("behavioral_count", behavioralCount);
-
-        ResponseEntity<Map> questionResponse = restTemplate.postForEntity(
-                "http://localhost:5004/generate_question", questionRequest, Map.class);
-
-        Map<String, Object> responseBody = questionResponse.getBody();
-        System.out.println("Flask API response: " + responseBody);
-
-        if (responseBody.containsKey("message") && "Interview completed".equals(responseBody.get("message"))) {
-            System.out.println("Returning 'Interview completed.'");
-            return "Interview completed.";
-        }
-
-        String question = (String) responseBody.get("question");
-        if (question == null) {
-            throw new RuntimeException("No question returned from Flask API");
-        }
-
-        String questionType = (String) responseBody.get("question_type");
-        InterviewResponse interviewResponse = new InterviewResponse();
-        interviewResponse.setApplication(application);
-        interviewResponse.setQuestion(question);
-        interviewResponse.setQuestionType(questionType);
-        interviewResponse.setCandidateResponse(null);
-        interviewResponse.setAiScore(0);
-        InterviewResponse savedResponse = interviewResponseRepository.save(interviewResponse);
-        interviewResponseRepository.flush(); // Ensure DB sync
-        System.out.println("Saved response: " + savedResponse);
-
-        return question;
+    public Mono<String> getNextQuestion(Long applicationId) {
+        return Mono.defer(() -> {
+            CompletableFuture<Map<String, Object>> prefetched = interviewSessionCache.get(applicationId)
+                    .takePrefetchedQuestion();
+            if (prefetched == null) {
+                return generateQuestion(applicationId);
+            }
+            return Mono.fromFuture(prefetched).onErrorResume(e -> generateQuestion(applicationId));
+        })
+                .timeout(questionTimeout, Mono.error(() -> new RuntimeException(
+                        "No question from the chatbot within " + questionTimeout.toSeconds() + "s")))
+                .subscribeOn(Schedulers.boundedElastic())
+                .publishOn(Schedulers.boundedElastic())
+                .map(responseBody -> {
+                    if (responseBody.containsKey("message")
+                            && "Interview completed".equals(responseBody.get("message"))) {
+                        return "Interview completed.";
+                    }
+
+                    String question = (String) responseBody.get("question");
+                    if (question == null) {
+                        throw new RuntimeException("No question returned from Flask API");
+                    }
+
+                    InterviewResponse saved = new TransactionTemplate(transactionManager).execute(tx -> {
+                        InterviewResponse interviewResponse = new InterviewResponse();
+                        interviewResponse.setApplication(applicationsRepository.getReferenceById(applicationId));
+                        interviewResponse.setQuestion(question);
+                        interviewResponse.setQuestionType((String) responseBody.get("question_type"));
+                        interviewResponse.setCandidateResponse(null);
+                        interviewResponse.setAiScore(0);
+                        return interviewResponseRepository.save(interviewResponse);
+                    });
+                    interviewSessionCache.questionAsked(saved);
+                    return question;
+                });
+    }
+
+    /**
+     * Ask the chatbot for the next question for the current question counts
+     *
+     * @param applicationId ID of the application
+     * @return Mono emitting the /generate_question response
+     */
+    private Mono<Map<String, Object>> generateQuestion(Long applicationId) {
+        return Mono.fromCallable(() -> questionRequest(interviewSessionCache.get(applicationId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(questionRequest -> modelServiceClient.postReactive(
+                        ModelService.CHATBOT, "/generate_question", questionRequest, Map.class))
+                .map(responseBody -> (Map<String, Object>) responseBody);
     }
 
     /**
-     * Submit and evaluate the candidate's response to an interview question
-     * 
-     * @param applicationId     ID of the application
-     * @param candidateResponse candidate's response
-     * @return InterviewResponse object containing the saved response
+     * Start generating the question that will follow the pending one, so it
+     * is ready when the candidate asks for it. The question counts already
+     * include the pending question, so the request does not depend on the
+     * answer being evaluated.
+     *
+     * @param applicationId ID of the application
      */
-    public InterviewResponse submitResponse(Long applicationId, String candidateResponse) {
-        InterviewResponse lastResponse = interviewResponseRepository
-                .findTopByApplication_IdAndCandidateResponseIsNullOrderByIdDesc(applicationId)
-                .orElseThrow(() -> new RuntimeException("No pending question found"));
-
-        Map<String, String> evaluationRequest = Map.of(
-                "question", lastResponse.getQuestion(),
-                "response", candidateResponse,
-                "question_type", lastResponse.getQuestionType());
-
-        ResponseEntity<Map> evaluationResponse = restTemplate.postForEntity(
-                "http://localhost:5004/conduct_interview",
-                evaluationRequest,
-                Map.class);
-
-        Map<String, Object> responseBody = evaluationResponse.getBody();
-
-        lastResponse.setCandidateResponse(candidateResponse); // update
-        lastResponse.setAiScore((int) Math.round((Double) responseBody.get("overall_score")));
-
-        return interviewResponseRepository.save(lastResponse);
+    private void prefetchNextQuestion(Long applicationId) {
+        InterviewSession session = interviewSessionCache.get(applicationId);
+        Map<String, Object> questionRequest = questionRequest(session);
+        CompletableFuture<Map<String, Object>> question = modelServiceClient
+                .postReactive(ModelService.CHATBOT, "/generate_question", questionRequest, Map.class)
+                .map(responseBody -> (Map<String, Object>) responseBody)
+                .toFuture();
+        session.setPrefetchedQuestion((int) questionRequest.get("technical_count"),
+                (int) questionRequest.get("behavioral_count"), question);
     }
 
     /**
-     * Calculate skill score based on candidate's skills and job requirements
-     * 
-     * @param candidate UserProfile object containing candidate details
-     * @param job       JobInfo object containing job details
-     * @return calculated skill score
+     * Build a /generate_question request from an interview session, loading
+     * the job details on the session's first use
+     *
+     * @param session interview session
+     * @return request body
      */
-    private int calculateSkillScore(UserProfile candidate, JobInfo job) {
-        Set<String> candidateSkills = new HashSet<>(candidate.getSkills());
-        Set<String> requiredSkills = new HashSet<>(job.getRequiredSkills());
-
-        // Basic skill match
-        Set<String> intersection = new HashSet<>(candidateSkills);
-        intersection.retainAll(requiredSkills);
-        double skillMatch = (double) intersection.size() / requiredSkills.size();
-
-        // Experience bonus
-        double experienceBonus = Math.min(candidate.getYearsOfExperience() / 5.0, 1.0);
-
-        // Education bonus
-        double educationBonus = getEducationBonus(candidate.getEducationLevel());
+    private Map<String, Object> questionRequest(InterviewSession session) {
+        if (!session.hasJobDetails()) {
+            JobInfo job = applicationsRepository.findById(session.getApplicationId())
+                    .orElseThrow(() -> new RuntimeException("Application not found"))
+                    .getJob();
+            session.setJobDetails(job.getTitle(), job.getRequiredSkills(), job.getPreferredQualifications());
+        }
 
-        return (int) ((skillMatch * 0.6 + experienceBonus * 0.25 + educationBonus * 0.15) * 100);
+        Map<String, Object> questionRequest = new HashMap<>();
+        questionRequest.put("job_title", session.getJobTitle());
+        questionRequest.put("required_skills", session.getRequiredSkills());
+        questionRequest.put("preferred_qualifications", session.getPreferredQualifications());
+        questionRequest.put("technical_count", session.getTechnicalCount());
+        questionRequest.put("behavioral_count", session.getBehavioralCount());
+        return questionRequest;
     }
 
     /**
-     * Get education bonus based on education level
+     * Submit and evaluate the candidate's response to an interview question.
+     * The pending question comes from the cached interview session and the
+     * evaluated answer is saved in a short transaction after the
+     * non-blocking chatbot call. The next question is generated in the
+     * background meanwhile.
      * 
-     * @param educationLevel education level of the candidate
-     * @return calculated education bonus
+     * @param applicationId     ID of the application
+     * @param candidateResponse candidate's response
+     * @return Mono emitting the saved InterviewResponse
      */
-    private double getEducationBonus(String educationLevel) {
-        return switch (educationLevel) {
-            case "PhD" -> 1.0;
-            case "Master's" -> 0.8;
-            case "Bachelor's" -> 0.6;
-            default -> 0.4;
-        };
+    public Mono<InterviewResponse> submitResponse(Long applicationId, String candidateResponse) {
+        return Mono.fromCallable(() -> {
+            InterviewResponse pending = interviewSessionCache.get(applicationId).getPendingQuestion();
+            if (pending == null) {
+                // Answered out of order; fall back to the latest unanswered question
+                pending = interviewResponseRepository
+                        .findTopByApplication_IdAndCandidateResponseIsNullOrderByIdDesc(applicationId)
+                        .orElseThrow(() -> new RuntimeException("No pending question found"));
+            }
+            try {
+                prefetchNextQuestion(applicationId);
+            } catch (RuntimeException e) {
+                // Speculative only; the question is generated on request instead
+            }
+            return pending;
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(pending -> {
+                    Map<String, String> evaluationRequest = Map.of(
+                            "question", pending.getQuestion(),
+                            "response", candidateResponse,
+                            "question_type", pending.getQuestionType());
+                    return modelServiceClient.postReactive(
+                            ModelService.CHATBOT, "/conduct_interview", evaluationRequest, Map.class)
+                            .map(responseBody -> Map.entry(pending.getId(), responseBody));
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .map(evaluation -> {
+                    InterviewResponse saved = new TransactionTemplate(transactionManager).execute(tx -> {
+                        InterviewResponse lastResponse = interviewResponseRepository.findById(evaluation.getKey())
+                                .orElseThrow(() -> new RuntimeException("No pending question found"));
+                        if (lastResponse.getCandidateResponse() != null) {
+                            throw new RuntimeException("Question was already answered");
+                        }
+                        Map<String, Object> responseBody = evaluation.getValue();
+                        lastResponse.setCandidateResponse(candidateResponse); // update
+                        lastResponse.setAiScore(
+                                (int) Math.round(((Number) responseBody.get("overall_score")).doubleValue()));
+                        // Serialized after the transaction ends
+                        Hibernate.initialize(lastResponse.getApplication().getCandidate().getSkills());
+                        return interviewResponseRepository.save(lastResponse);
+                    });
+                    interviewSessionCache.answered(saved);
+                    return saved;
+                });
     }
 
     /**
@@ -753,115 +641,52 @@ public class CandidateService {
         Applications app = applicationsRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
-        List<InterviewResponse> responses = interviewResponseRepository.findByApplicationId(applicationId);
-        if (responses.size() == 5) {
+        // The response count and both interview scores come from one pass
+        // over the transcript, loaded at most once
+        InterviewSession session = interviewSessionCache.get(applicationId);
+        int responseCount = session.getResponseCount();
+        if (responseCount == 5) {
+            int interviewScore = session.getInterviewScore();
+            int personalityScore = session.getPersonalityScore();
+
+            String previousStatus = app.getStatus();
             app.setStatus("FinalReview");
-            applicationsRepository.save(app);
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.executeWithoutResult(tx -> {
+                applicationsRepository.save(app);
+                eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(app, previousStatus, "FinalReview"));
+            });
 
+            screeningPipeline.awaitScreening(applicationId);
             AiData aiData = aiDataRepository.findByApplicationId(applicationId)
                     .orElseThrow(() -> new RuntimeException("AiData not found for application"));
-
-            int interviewScore = calculateInterviewScore(app);
             aiData.setInterviewScore(interviewScore);
-
-            int personalityScore = calculatePersonalityScore(app);
             aiData.setPersonalityScore(personalityScore);
-
-            aiData.setOverallScore(calculateOverallScore(aiData));
-
-            aiData.setAiFeedback(generateAIFeedback(aiData));
+            aiData.setOverallScore(applicationScorer.calculateOverallScore(aiData));
+
+            // Bias analysis runs in the background while the feedback is built,
+            // which may call the screening model; the skill score needs the skills
+            Hibernate.initialize(app.getCandidate().getSkills());
+            CompletableFuture<String> bias = screeningPipeline.detectBiasAsync(app, interviewScore,
+                    personalityScore);
+            aiData.setAiFeedback(screeningPipeline.generateAIFeedback(aiData));
+            try {
+                bias.join();
+            } catch (RuntimeException e) {
+                // Bias model unavailable; re-run once it is back
+                aiData.setRescorePending(true);
+            }
             aiDataRepository.save(aiData);
 
-            // Re-run bias analysis with updated data
-            callBiasDetectionAPI(app);
-            if (aiData.getOverallScore() < 50) {
-                app.setStatus("Rejected");
-            } else {
-                app.setStatus("Shortlisted");
-            }
+            app.setStatus(applicationScorer.interviewDecision(aiData.getOverallScore()));
+            transaction.executeWithoutResult(tx -> {
+                applicationsRepository.save(app);
+                eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(app, "FinalReview", app.getStatus()));
+            });
+            interviewSessionCache.evict(applicationId);
         } else {
             throw new RuntimeException(
-                    "Interview not fully completed. Expected 5 questions, found " + responses.size());
-        }
-    }
-
-    /**
-     * Calculate overall score based on various factors
-     * 
-     * @param aiData AiData object containing AI-generated scores
-     * @return calculated overall score
-     */
-    private int calculateOverallScore(AiData aiData) {
-        // Weighted Overall Score: 30% Resume + 30% Behavioral + 30% Skills + 10%
-        // personlaity
-        return (int) Math.round(
-                (aiData.getResumeScore() * 0.3) +
-                        (aiData.getInterviewScore() * 0.3) +
-                        (aiData.getSkillMatchScore() * 0.3) +
-                        (aiData.getPersonalityScore() * 0.1));
-    }
-
-    /**
-     * Calculate personality score based on interview responses
-     * 
-     * @param application Applications object
-     * @return calculated personality score
-     */
-    private int calculatePersonalityScore(Applications application) {
-        List<InterviewResponse> responses = interviewResponseRepository
-                .findByApplicationId(application.getId());
-
-        if (responses.isEmpty()) {
-            return 70; // Base score
-        }
-
-        // Calculate weighted average of behavioral scores
-        return (int) responses.stream()
-                .filter(r -> "behavioral".equals(r.getQuestionType()))
-                .mapToInt(InterviewResponse::getAiScore)
-                .average()
-                .orElse(70);
-    }
-
-    /**
-     * Calculate location score based on candidate's location and job location
-     * 
-     * @param candidate UserProfile object containing candidate details
-     * @param job       JobInfo object containing job details
-     * @return calculated location score
-     */
-    public int calculateLocationScore(UserProfile candidate, JobInfo job) {
-        if (candidate.isInSameMetroArea(job)) {
-            return 100; // Full score for same metro area
-        }
-
-        // Partial score for remote candidates based on work preference
-        return switch (candidate.getPreferredJobTypes().toLowerCase()) {
-            case "full-time" -> 80;
-            case "remote" -> 60;
-            case "part-time" -> 60;
-            case "contract" -> 70;
-            case "hybrid" -> 70;
-            default -> 40; // Prefers onsite but applying to different location
-        };
-    }
-
-    /**
-     * Map education level to a numerical value
-     * 
-     * @param educationLevel education level of the candidate
-     * @return mapped numerical value
-     */
-    private int mapEducationLevel(String educationLevel) {
-        switch (educationLevel) {
-            case "Bachelor's":
-                return 2;
-            case "Master's":
-                return 3;
-            case "PhD":
-                return 4;
-            default:
-                return 1;// Assume 1 is "High School" or baseline
+                    "Interview not fully completed. Expected 5 questions, found " + responseCount);
         }
     }
 
@@ -914,9 +739,19 @@ public class CandidateService {
                         + userRole.getCreatedAt(),
                 role));
         List<Applications> applications = applicationsRepository.findByCandidate_UserId(userRole.getId());
-        applicationsRepository.deleteAll(applications);
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            applicationsRepository.deleteAll(applications);
+            for (Applications application : applications) {
+                eventPublisher.publishEvent(
+                        ApplicationStatusChangedEvent.of(application, application.getStatus(), null));
+            }
+        });
+        for (Applications application : applications) {
+            interviewSessionCache.evict(application.getId());
+        }
         userProfileRepository.delete(candidate);
         userRoleRepository.delete(userRole);
+        principalCache.invalidate(email);
     }
 
     /**
@@ -0,0 +1,174 @@
+/**
+ * CircuitBreaker.java
+ * Count-based circuit breaker for one model endpoint.
+ * Tracks the outcome of the last windowSize calls; once at least minCalls
+ * have been seen and the failure rate reaches the threshold, the circuit
+ * opens and calls are rejected without touching the network. After
+ * openDuration a single trial call is let through (half-open): success closes
+ * the circuit, failure opens it again. Each admitted call gets a permit, and
+ * outcomes of calls admitted before the last state change are ignored.
+ */
+
+package hiringSystem.service;
+
+import java.time.Duration;
+
+public class CircuitBreaker {
+
+    /**
+     * Returned by tryAcquire when the call must not proceed
+     */
+    public static final long NO_PERMIT = -1;
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final boolean[] outcomes; // true = failure, ring buffer
+    private final int minCalls;
+    private final int failureThreshold; // percent
+    private final long openNanos;
+    private final Runnable onClose;
+
+    private State state = State.CLOSED;
+    private int calls;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+    // Incremented on every state change; permits of an earlier generation no
+    // longer affect the circuit
+    private long generation;
+
+    /**
+     * @param windowSize       number of recent calls to consider
+     * @param minCalls         calls needed before the failure rate is acted on
+     * @param failureThreshold failure rate in percent that opens the circuit
+     * @param openDuration     how long to reject calls before a trial call
+     * @param onClose          run after the circuit closes again
+     */
+    public CircuitBreaker(int windowSize, int minCalls, int failureThreshold, Duration openDuration,
+            Runnable onClose) {
+        this.outcomes = new boolean[windowSize];
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.onClose = onClose;
+    }
+
+    /**
+     * Ask to make a call
+     *
+     * @return permit for the call, or NO_PERMIT if it must not proceed; a
+     *         permit must be reported with onSuccess, onFailure or onIgnored
+     */
+    public synchronized long tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return generation;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return NO_PERMIT;
+                }
+                transition(State.HALF_OPEN);
+                // fall through to let the trial call in
+            case HALF_OPEN:
+            default:
+                if (trialInFlight) {
+                    return NO_PERMIT;
+                }
+                trialInFlight = true;
+                return generation;
+        }
+    }
+
+    /**
+     * Report a successful call. Only the trial call closes a half-open
+     * circuit; calls admitted before the last state change are not counted.
+     *
+     * @param permit permit returned by tryAcquire
+     */
+    public void onSuccess(long permit) {
+        boolean closed;
+        synchronized (this) {
+            if (permit != generation) {
+                return;
+            }
+            closed = state == State.HALF_OPEN;
+            if (closed) {
+                transition(State.CLOSED);
+            } else {
+                record(false);
+            }
+        }
+        if (closed && onClose != null) {
+            onClose.run();
+        }
+    }
+
+    /**
+     * Report a failed call. Only the trial call reopens a half-open circuit;
+     * calls admitted before the last state change, including failures
+     * arriving while the circuit is open, are not counted.
+     *
+     * @param permit permit returned by tryAcquire
+     */
+    public synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minCalls && failures * 100 >= failureThreshold * calls) {
+            open();
+        }
+    }
+
+    /**
+     * Report a call whose outcome says nothing about the endpoint's health
+     * (e.g. a client error)
+     *
+     * @param permit permit returned by tryAcquire
+     */
+    public synchronized void onIgnored(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void transition(State newState) {
+        state = newState;
+        generation++;
+        calls = 0;
+        next = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
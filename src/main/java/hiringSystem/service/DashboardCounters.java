@@ -0,0 +1,87 @@
+/**
+ * DashboardCounters.java
+ * Keeps each recruiter's application counts current from
+ * ApplicationStatusChangedEvents, so dashboard metrics are generated from
+ * one counter row instead of loading every application. Publishers change an
+ * application and its counters in one transaction; the counters are also
+ * rebuilt from the applications nightly, so any drift is repaired.
+ */
+
+package hiringSystem.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import hiringSystem.model.DashboardCounter;
+import hiringSystem.repository.ApplicationRepository;
+import hiringSystem.repository.DashboardCounterRepository;
+
+@Component
+public class DashboardCounters {
+
+    private static final String SHORTLISTED = "Shortlisted";
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private ApplicationRepository applicationsRepository;
+
+    /**
+     * Build the counters from the existing applications the first time the
+     * application starts with this feature
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (dashboardCounterRepository.count() == 0 && applicationsRepository.count() > 0) {
+            dashboardCounterRepository.rebuild();
+        }
+    }
+
+    /**
+     * Recompute every recruiter's counters from the applications
+     */
+    @Scheduled(cron = "0 55 23 * * ?") // Daily, before the midnight dashboard metrics job
+    @Transactional
+    public void reconcile() {
+        dashboardCounterRepository.rebuild();
+    }
+
+    /**
+     * Apply an application change to its recruiter's counts. Runs in the
+     * publisher's transaction, which also saves the application.
+     *
+     * @param event application change
+     */
+    @EventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.getRecruiterId() == null) {
+            return;
+        }
+        long applications = (event.getStatus() != null ? 1 : 0) - (event.getPreviousStatus() != null ? 1 : 0);
+        long shortlisted = (SHORTLISTED.equals(event.getStatus()) ? 1 : 0)
+                - (SHORTLISTED.equals(event.getPreviousStatus()) ? 1 : 0);
+        if (applications != 0 || shortlisted != 0) {
+            dashboardCounterRepository.addCounts(event.getRecruiterId(), applications, shortlisted);
+        }
+    }
+
+    /**
+     * Get the current counts of a recruiter
+     *
+     * @param recruiterId user ID of the recruiter
+     * @return counts, all zero if the recruiter has no applications yet
+     */
+    public DashboardCounter getCounts(Long recruiterId) {
+        return dashboardCounterRepository.findById(recruiterId).orElseGet(() -> {
+            DashboardCounter empty = new DashboardCounter();
+            empty.setRecruiterId(recruiterId);
+            return empty;
+        });
+    }
+}
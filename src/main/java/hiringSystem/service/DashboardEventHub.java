@@ -0,0 +1,166 @@
+/**
+ * DashboardEventHub.java
+ * Live dashboard updates per recruiter. Application changes and completed
+ * screenings are fanned out to the recruiter's open streams; each stream
+ * coalesces the changes of one debounce window (dashboard.stream.debounce)
+ * into a single update carrying the current counts, so an idle dashboard
+ * costs no database reads at all.
+ */
+
+package hiringSystem.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import hiringSystem.model.DashboardCounter;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+@Component
+public class DashboardEventHub {
+
+    // Changes held per stream while its window is open
+    private static final int MAX_PENDING = 256;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Value("${dashboard.stream.debounce:500ms}")
+    private Duration debounce;
+
+    @Value("${dashboard.stream.heartbeat:30s}")
+    private Duration heartbeat;
+
+    // Clients reconnect on their own once a stream times out
+    @Value("${dashboard.stream.timeout:30m}")
+    private Duration timeout;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Counts are read after the change is committed
+     *
+     * @param event application change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        publish(event.getRecruiterId(), event);
+    }
+
+    @EventListener
+    public void onScreeningCompleted(ScreeningCompletedEvent event) {
+        publish(event.getRecruiterId(), event);
+    }
+
+    /**
+     * Live dashboard updates of a recruiter, starting with the current
+     * counts. Each update holds totalApplications, shortlistedCandidates,
+     * statusChanges and the screenings completed since the previous update.
+     *
+     * @param recruiterId user ID of the recruiter
+     * @return stream of updates; cancelling it closes the stream
+     */
+    public Flux<Map<String, Object>> stream(Long recruiterId) {
+        return Flux.using(
+                () -> open(recruiterId),
+                channel -> channel.sink.asFlux()
+                        .onBackpressureBuffer(MAX_PENDING, BufferOverflowStrategy.DROP_OLDEST)
+                        .bufferTimeout(MAX_PENDING, debounce)
+                        .startWith(List.<Object>of())
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(changes -> update(recruiterId, changes)),
+                channel -> close(recruiterId));
+    }
+
+    /**
+     * Send a recruiter's live dashboard updates to the client as server-sent
+     * "metrics" events, with a comment line as keep-alive between updates
+     *
+     * @param recruiterId user ID of the recruiter
+     * @return emitter to return from the request handler
+     */
+    public SseEmitter emitter(Long recruiterId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Disposable subscription = Flux.merge(
+                stream(recruiterId).map(update -> SseEmitter.event().name("metrics").data(update)),
+                Flux.interval(heartbeat).map(tick -> SseEmitter.event().comment("keep-alive")))
+                .subscribe(event -> {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, emitter::completeWithError, emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        return emitter;
+    }
+
+    private void publish(Long recruiterId, Object change) {
+        if (recruiterId == null) {
+            return;
+        }
+        Channel channel = channels.get(recruiterId);
+        if (channel != null) {
+            // Sinks need serialized emission; a change nobody receives is simply dropped
+            synchronized (channel) {
+                channel.sink.tryEmitNext(change);
+            }
+        }
+    }
+
+    private Channel open(Long recruiterId) {
+        return channels.compute(recruiterId, (id, channel) -> {
+            Channel opened = channel != null ? channel : new Channel();
+            opened.subscribers++;
+            return opened;
+        });
+    }
+
+    private void close(Long recruiterId) {
+        channels.computeIfPresent(recruiterId, (id, channel) -> --channel.subscribers == 0 ? null : channel);
+    }
+
+    private Map<String, Object> update(Long recruiterId, List<Object> changes) {
+        DashboardCounter counts = dashboardCounters.getCounts(recruiterId);
+        int statusChanges = 0;
+        List<Map<String, Object>> screenings = new ArrayList<>();
+        for (Object change : changes) {
+            if (change instanceof ScreeningCompletedEvent screening) {
+                screenings.add(Map.of(
+                        "applicationId", screening.getApplicationId(),
+                        "overallScore", screening.getOverallScore()));
+            } else {
+                statusChanges++;
+            }
+        }
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("totalApplications", counts.getTotalApplications());
+        update.put("shortlistedCandidates", counts.getShortlistedCandidates());
+        update.put("statusChanges", statusChanges);
+        update.put("screeningsCompleted", screenings);
+        return update;
+    }
+
+    private static final class Channel {
+        private final Sinks.Many<Object> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
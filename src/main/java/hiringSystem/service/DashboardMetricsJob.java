@@ -0,0 +1,184 @@
+/**
+ * DashboardMetricsJob.java
+ * Scheduled generation of every recruiter's daily, weekly and monthly
+ * dashboard metrics. The counts of all recruiters are read from their
+ * dashboard counters in one query, the same source the on-demand
+ * generation uses; the rows and the current bucket of the period's rollup
+ * tier are then upserted in JDBC batches, one chunk of recruiters per task
+ * (metrics.job.chunk-size, metrics.job.parallelism).
+ * No security context is needed. Run time is recorded as the
+ * dashboard.metrics.job timer.
+ */
+
+package hiringSystem.service;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import hiringSystem.model.AuditLog;
+import hiringSystem.repository.AuditLogRepository;
+import hiringSystem.repository.DashboardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class DashboardMetricsJob {
+
+    private static final String COUNTS_SQL = "SELECT r.user_id, "
+            + "coalesce(c.total_applications, 0) AS total_applications, "
+            + "coalesce(c.shortlisted_candidates, 0) AS shortlisted_candidates "
+            + "FROM recruiter_profiles r LEFT JOIN dashboard_counters c ON c.recruiter_id = r.user_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+
+    @Autowired
+    private MetricsRollupStore metricsRollupStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.job.chunk-size:500}")
+    private int chunkSize;
+
+    private final ExecutorService executor;
+
+    public DashboardMetricsJob(@Value("${metrics.job.parallelism:4}") int parallelism) {
+        executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Add the recruiter and period uniqueness of dashboard_metrics to tables
+     * that had duplicate rows before it existed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniquePeriods() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(tx -> dashboardRepository.ensureUniquePeriods());
+    }
+
+    @Scheduled(cron = "0 0 0 * * ?") // Daily at midnight
+    public void autoGenerateDailyMetrics() {
+        generate("daily");
+    }
+
+    @Scheduled(cron = "0 0 0 * * MON") // Weekly on Monday at midnight
+    public void autoGenerateWeeklyMetrics() {
+        generate("weekly");
+    }
+
+    @Scheduled(cron = "0 0 0 1 * ?") // Monthly on the 1st at midnight
+    public void autoGenerateMonthlyMetrics() {
+        generate("monthly");
+    }
+
+    /**
+     * Generate or update the metrics of every recruiter for the current period
+     *
+     * @param period daily, weekly or monthly
+     * @return number of recruiters whose metrics were written
+     */
+    public int generate(String period) {
+        Date periodStart = periodStart(period, new Date());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            List<long[]> counts = jdbcTemplate.query(COUNTS_SQL, (rs, rowNum) -> new long[] {
+                    rs.getLong("user_id"), rs.getLong("total_applications"), rs.getLong("shortlisted_candidates") });
+
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < counts.size(); from += chunkSize) {
+                List<long[]> chunk = counts.subList(from, Math.min(from + chunkSize, counts.size()));
+                chunks.add(CompletableFuture.runAsync(() -> upsert(chunk, period, periodStart), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+            auditLogRepository.save(new AuditLog(
+                    "system",
+                    "METRICS_GENERATED",
+                    new Date(),
+                    "Dashboard metrics generated/updated for " + counts.size() + " recruiters for " + period
+                            + " period on " + periodStart,
+                    "system"));
+            return counts.size();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("dashboard.metrics.job")
+                    .tag("period", period)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Write one chunk of recruiter counts in a single transaction, as one
+     * batch of upserts per table
+     */
+    private void upsert(List<long[]> chunk, String period, Date periodStart) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            dashboardRepository.upsertAll(chunk, periodStart);
+            metricsRollupStore.refreshCurrent(MetricsRollupStore.tier(period), chunk);
+        });
+    }
+
+    /**
+     * Start of the period containing a point in time
+     *
+     * @param period daily, weekly or monthly
+     * @param now    point in time
+     * @return start of the day, week or month
+     */
+    public static Date periodStart(String period, Date now) {
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(now);
+        switch (period.toLowerCase()) {
+            case "daily":
+                break;
+            case "weekly":
+                cal.set(Calendar.DAY_OF_WEEK, cal.getFirstDayOfWeek());
+                break;
+            case "monthly":
+                cal.set(Calendar.DAY_OF_MONTH, 1);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid period: " + period);
+        }
+        cal.set(Calendar.HOUR_OF_DAY, 0);
+        cal.set(Calendar.MINUTE, 0);
+        cal.set(Calendar.SECOND, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+        return cal.getTime();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * FairnessAnalytics.java
+ * Per-job and per-recruiter fairness aggregates of the bias detection
+ * results: mean and percentiles of the gender and age bias scores, the
+ * bias-detected rate and the predicted decision rates. The aggregates live in
+ * fairness_stats and are updated whenever a Bias row is saved, so reading
+ * them never scans bias_detection.
+ */
+
+package hiringSystem.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import hiringSystem.model.Applications;
+import hiringSystem.model.Bias;
+import hiringSystem.model.FairnessStats;
+import hiringSystem.model.JobInfo;
+import hiringSystem.repository.BiasRepository;
+import hiringSystem.repository.FairnessStatsRepository;
+
+@Service
+public class FairnessAnalytics {
+
+    @Autowired
+    private FairnessStatsRepository fairnessStatsRepository;
+
+    @Autowired
+    private BiasRepository biasRepository;
+
+    /**
+     * Build the aggregates from the existing bias results the first time the
+     * application starts with this feature, and rebuild them if duplicate
+     * results had to be removed to keep one result per application
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        boolean deduplicated = biasRepository.ensureUniqueApplications();
+        if (deduplicated || fairnessStatsRepository.count() == 0 && biasRepository.count() > 0) {
+            fairnessStatsRepository.rebuild();
+        }
+    }
+
+    /**
+     * Count a saved bias result in the aggregates of its job and recruiter.
+     * Must run in the transaction that saved the result.
+     *
+     * @param application application the result belongs to
+     * @param previous    values the result replaced, or null for a new result
+     * @param bias        saved bias result
+     */
+    public void recordBias(Applications application, Bias previous, Bias bias) {
+        JobInfo job = application.getJob();
+        apply(FairnessStats.SCOPE_JOB, job.getId(), previous, bias);
+        if (job.getRecruiter() != null) {
+            apply(FairnessStats.SCOPE_RECRUITER, job.getRecruiter().getUserId(), previous, bias);
+        }
+    }
+
+    /**
+     * Get the fairness aggregate of a job
+     *
+     * @param jobId ID of the job
+     * @return fairness summary
+     */
+    public Map<String, Object> getJobFairness(Long jobId) {
+        return summary(FairnessStats.SCOPE_JOB, jobId);
+    }
+
+    /**
+     * Get the fairness aggregate of all jobs of a recruiter
+     *
+     * @param recruiterId user ID of the recruiter
+     * @return fairness summary
+     */
+    public Map<String, Object> getRecruiterFairness(Long recruiterId) {
+        return summary(FairnessStats.SCOPE_RECRUITER, recruiterId);
+    }
+
+    private void apply(String scope, Long scopeId, Bias previous, Bias bias) {
+        if (previous != null) {
+            fairnessStatsRepository.applyBias(scope, scopeId, previous, -1);
+        }
+        fairnessStatsRepository.applyBias(scope, scopeId, bias, 1);
+    }
+
+    private Map<String, Object> summary(String scope, Long scopeId) {
+        FairnessStats stats = fairnessStatsRepository.findByScopeAndScopeId(scope, scopeId)
+                .orElseGet(FairnessStats::new);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scope", scope);
+        summary.put("scopeId", scopeId);
+        summary.put("sampleCount", stats.getSampleCount());
+        summary.put("biasScoreGender", Map.of(
+                "mean", stats.getMeanGenderScore(),
+                "p50", stats.genderScorePercentile(50),
+                "p90", stats.genderScorePercentile(90),
+                "p99", stats.genderScorePercentile(99)));
+        summary.put("biasScoreAge", Map.of(
+                "mean", stats.getMeanAgeScore(),
+                "p50", stats.ageScorePercentile(50),
+                "p90", stats.ageScorePercentile(90),
+                "p99", stats.ageScorePercentile(99)));
+        summary.put("biasDetectedRate", stats.getBiasDetectedRate());
+        summary.put("predictedHireRate", stats.getPredictedHireRate());
+        summary.put("predictedRejectRate", stats.getSampleCount() == 0 ? 0 : 1 - stats.getPredictedHireRate());
+        return summary;
+    }
+}
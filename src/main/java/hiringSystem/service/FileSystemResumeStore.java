@@ -0,0 +1,107 @@
+/**
+ * FileSystemResumeStore.java
+ * ResumeStore backed by a local directory. Uploads are streamed through a
+ * FileChannel into a temporary file while being hashed, then moved to
+ * <dir>/<first two hex digits>/<hash>; a resume that is already stored is
+ * not written again.
+ */
+
+package hiringSystem.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileSystemResumeStore implements ResumeStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+
+    public FileSystemResumeStore(@Value("${resume.store.dir:resumes}") String dir) {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(InputStream content) {
+        Path temp = null;
+        try {
+            Files.createDirectories(root);
+            temp = Files.createTempFile(root, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Heap buffer: the stream channel copies through a heap array anyway, and
+            // direct buffers are costly to allocate per upload and freed only by GC
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            ReadableByteChannel in = Channels.newChannel(content);
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = path(key);
+            if (Files.exists(target)) {
+                return key;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same resume stored concurrently
+            }
+            return key;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to store resume: " + e.getMessage(), e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    // Leftover temp files are harmless
+                }
+            }
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(path(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(path(key));
+    }
+
+    private Path path(String key) {
+        if (key == null || !key.matches("[0-9a-f]{64}")) {
+            throw new RuntimeException("Invalid resume key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
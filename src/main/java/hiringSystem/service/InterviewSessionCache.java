@@ -0,0 +1,109 @@
+/**
+ * InterviewSessionCache.java
+ * In-memory interview sessions per application id. A session is built from
+ * interview_responses once and then kept current as questions and answers
+ * are saved, so interview turns and the interview scores no longer re-read
+ * the transcript. Writes always go to the database first; sessions idle for
+ * longer than interview.session-ttl are dropped and rebuilt on next use.
+ */
+
+package hiringSystem.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import hiringSystem.model.InterviewResponse;
+import hiringSystem.model.InterviewSession;
+import hiringSystem.repository.InterviewResponseRepository;
+
+@Component
+public class InterviewSessionCache {
+
+    // Expired sessions are swept every this many cache misses
+    private static final int SWEEP_INTERVAL = 256;
+
+    @Autowired
+    private InterviewResponseRepository interviewResponseRepository;
+
+    @Value("${interview.session-ttl:2h}")
+    private Duration sessionTtl;
+
+    private final Map<Long, InterviewSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Get the interview session of an application, loading it from the
+     * saved responses if it is not cached
+     *
+     * @param applicationId ID of the application
+     * @return interview session
+     */
+    public InterviewSession get(Long applicationId) {
+        long now = System.currentTimeMillis();
+        InterviewSession session = sessions.get(applicationId);
+        if (session == null || isExpired(session, now)) {
+            session = sessions.compute(applicationId,
+                    (id, existing) -> existing != null && !isExpired(existing, now) ? existing : load(id));
+            if (misses.incrementAndGet() % SWEEP_INTERVAL == 0) {
+                sessions.values().removeIf(idle -> isExpired(idle, now));
+            }
+        }
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Apply a saved question to the cached session, if any
+     *
+     * @param response saved InterviewResponse holding the question
+     */
+    public void questionAsked(InterviewResponse response) {
+        // A session loaded after the save already contains it; updates are idempotent
+        sessions.computeIfPresent(response.getApplication().getId(), (id, session) -> {
+            session.questionAsked(response);
+            return session;
+        });
+    }
+
+    /**
+     * Apply a saved answer to the cached session, if any
+     *
+     * @param response saved InterviewResponse holding the answer and score
+     */
+    public void answered(InterviewResponse response) {
+        sessions.computeIfPresent(response.getApplication().getId(), (id, session) -> {
+            session.answered(response);
+            return session;
+        });
+    }
+
+    /**
+     * Drop the session of an application, e.g. once its interview is
+     * complete or the application is deleted
+     *
+     * @param applicationId ID of the application
+     */
+    public void evict(Long applicationId) {
+        InterviewSession session = sessions.remove(applicationId);
+        if (session != null) {
+            session.discardPrefetchedQuestion();
+        }
+    }
+
+    private InterviewSession load(Long applicationId) {
+        InterviewSession session = new InterviewSession(applicationId,
+                interviewResponseRepository.findByApplicationId(applicationId));
+        session.touch(System.currentTimeMillis());
+        return session;
+    }
+
+    private boolean isExpired(InterviewSession session, long now) {
+        return now - session.getLastAccess() > sessionTtl.toMillis();
+    }
+}
@@ -0,0 +1,268 @@
+/**
+ * JobMatchScorer.java
+ * Primitive scoring engine for candidate/job match scores.
+ * Skills are interned to integer ids; a candidate's skills become a bitset and
+ * each job's required skills a sorted id array, so scoring a candidate against
+ * a job allocates nothing. Produces the same scores as the original set-based
+ * calculation (40% skills, 30% experience, 20% location, 10% education).
+ */
+
+package hiringSystem.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.StringListConverter;
+import hiringSystem.model.UserProfile;
+import hiringSystem.repository.JobInfoRepository;
+
+@Component
+public class JobMatchScorer {
+
+    private final Map<String, Integer> skillIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSkillId = new AtomicInteger();
+    private final Map<Long, JobProfile> jobProfiles = new ConcurrentHashMap<>();
+
+    /**
+     * Score a candidate against a single job
+     *
+     * @param candidate candidate profile
+     * @param job       job posting
+     * @return match score between 0 and 100
+     */
+    public int score(UserProfile candidate, JobInfo job) {
+        return score(compile(candidate), profile(job));
+    }
+
+    /**
+     * Score a precompiled candidate against a precompiled job
+     *
+     * @param candidate compiled candidate
+     * @param job       compiled job
+     * @return match score between 0 and 100
+     */
+    public int score(CandidateProfile candidate, JobProfile job) {
+        int matchScore = 0;
+
+        // Skill matching (40% weight)
+        int[] required = job.requiredSkillIds;
+        if (required.length > 0) {
+            long[] bits = candidate.skillBits;
+            int matched = 0;
+            for (int id : required) {
+                int word = id >>> 6;
+                if (word < bits.length && (bits[word] & (1L << id)) != 0) {
+                    matched++;
+                }
+            }
+            double skillMatch = (double) matched / required.length;
+            matchScore += (int) (skillMatch * 40);
+        }
+
+        // Experience matching (30% weight)
+        matchScore += candidate.experiencePoints;
+
+        // Location matching (20% weight)
+        boolean sameMetro = candidate.city != null && job.city != null && candidate.city.equalsIgnoreCase(job.city);
+        matchScore += sameMetro ? candidate.sameMetroPoints : candidate.otherMetroPoints;
+
+        // Education matching (10% weight)
+        matchScore += candidate.educationPoints;
+
+        return Math.clamp(matchScore, 0, 100);
+    }
+
+    /**
+     * Compile a candidate's skills and the job-independent parts of the score
+     *
+     * @param candidate candidate profile
+     * @return compiled candidate
+     */
+    public CandidateProfile compile(UserProfile candidate) {
+        long[] bits = new long[Math.max(1, (nextSkillId.get() >>> 6) + 1)];
+        List<String> skills = candidate.getSkills();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill == null) {
+                    continue;
+                }
+                int id = intern(skill);
+                int word = id >>> 6;
+                if (word >= bits.length) {
+                    bits = Arrays.copyOf(bits, word + 1);
+                }
+                bits[word] |= 1L << id;
+            }
+        }
+
+        int experiencePoints = (int) (Math.min(candidate.getYearsOfExperience() / 5.0, 1.0) * 30);
+        int educationPoints = (int) (educationBonus(candidate.getEducationLevel()) * 10);
+        int sameMetroPoints = (int) (100 * 0.20);
+        int otherMetroPoints = (int) (remoteLocationScore(candidate.getPreferredJobTypes()) * 0.20);
+        return new CandidateProfile(bits, metroArea(candidate.getLocation()), experiencePoints, educationPoints,
+                sameMetroPoints, otherMetroPoints);
+    }
+
+    /**
+     * Get the compiled form of a job, reusing the cached copy while the job's
+     * skills and location are unchanged
+     *
+     * @param job job posting
+     * @return compiled job
+     */
+    public JobProfile profile(JobInfo job) {
+        return profile(job.getId(), job.getRequiredSkillsJson(), job.getLocation(), job::getRequiredSkills);
+    }
+
+    /**
+     * Get the compiled form of a job from its projected match fields
+     *
+     * @param job job id, location and required skills
+     * @return compiled job
+     */
+    public JobProfile profile(JobInfoRepository.MatchFields job) {
+        List<String> requiredSkills = job.getRequiredSkills();
+        return profile(job.getId(), StringListConverter.toJson(requiredSkills), job.getLocation(),
+                () -> requiredSkills != null ? requiredSkills : List.of());
+    }
+
+    private JobProfile profile(Long jobId, String requiredSkillsJson, String location,
+            Supplier<List<String>> requiredSkills) {
+        if (jobId == null) {
+            return compile(jobId, requiredSkillsJson, location, requiredSkills.get());
+        }
+        JobProfile cached = jobProfiles.get(jobId);
+        if (cached != null && cached.isCurrent(requiredSkillsJson, location)) {
+            return cached;
+        }
+        JobProfile compiled = compile(jobId, requiredSkillsJson, location, requiredSkills.get());
+        jobProfiles.put(jobId, compiled);
+        return compiled;
+    }
+
+    private JobProfile compile(Long jobId, String requiredSkillsJson, String location, List<String> requiredSkills) {
+        int[] ids = new int[requiredSkills.size()];
+        int n = 0;
+        for (String skill : requiredSkills) {
+            if (skill != null) {
+                ids[n++] = intern(skill);
+            }
+        }
+        // Distinct ids, matching the set semantics of the original calculation
+        int[] distinct = Arrays.stream(ids, 0, n).sorted().distinct().toArray();
+        return new JobProfile(jobId, requiredSkillsJson, location, metroArea(location), distinct);
+    }
+
+    private int intern(String skill) {
+        return skillIds.computeIfAbsent(skill, s -> nextSkillId.getAndIncrement());
+    }
+
+    /**
+     * Metro area part of a "city, state" location
+     */
+    private static String metroArea(String location) {
+        if (location == null) {
+            return null;
+        }
+        int comma = location.indexOf(',');
+        return comma < 0 ? location : location.substring(0, comma);
+    }
+
+    /**
+     * Get education bonus based on education level
+     *
+     * @param educationLevel education level of the candidate
+     * @return education bonus between 0.4 and 1.0
+     */
+    static double educationBonus(String educationLevel) {
+        if (educationLevel == null) {
+            return 0.4;
+        }
+        return switch (educationLevel) {
+            case "PhD" -> 1.0;
+            case "Master's" -> 0.8;
+            case "Bachelor's" -> 0.6;
+            default -> 0.4;
+        };
+    }
+
+    /**
+     * Location score for a candidate outside the job's metro area, based on
+     * the candidate's work preference
+     *
+     * @param preferredJobTypes candidate's preferred job type
+     * @return location score
+     */
+    static int remoteLocationScore(String preferredJobTypes) {
+        if (preferredJobTypes == null) {
+            return 40;
+        }
+        return switch (preferredJobTypes.toLowerCase()) {
+            case "full-time" -> 80;
+            case "remote" -> 60;
+            case "part-time" -> 60;
+            case "contract" -> 70;
+            case "hybrid" -> 70;
+            default -> 40; // Prefers onsite but applying to different location
+        };
+    }
+
+    /**
+     * Job-independent, precomputed parts of a candidate's match score
+     */
+    public static final class CandidateProfile {
+        private final long[] skillBits;
+        private final String city;
+        private final int experiencePoints;
+        private final int educationPoints;
+        private final int sameMetroPoints;
+        private final int otherMetroPoints;
+
+        private CandidateProfile(long[] skillBits, String city, int experiencePoints, int educationPoints,
+                int sameMetroPoints, int otherMetroPoints) {
+            this.skillBits = skillBits;
+            this.city = city;
+            this.experiencePoints = experiencePoints;
+            this.educationPoints = educationPoints;
+            this.sameMetroPoints = sameMetroPoints;
+            this.otherMetroPoints = otherMetroPoints;
+        }
+    }
+
+    /**
+     * Precomputed required skills and metro area of a job
+     */
+    public static final class JobProfile {
+        private final Long jobId;
+        private final String requiredSkillsJson;
+        private final String location;
+        private final String city;
+        private final int[] requiredSkillIds;
+
+        private JobProfile(Long jobId, String requiredSkillsJson, String location, String city,
+                int[] requiredSkillIds) {
+            this.jobId = jobId;
+            this.requiredSkillsJson = requiredSkillsJson;
+            this.location = location;
+            this.city = city;
+            this.requiredSkillIds = requiredSkillIds;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        private boolean isCurrent(String requiredSkillsJson, String location) {
+            return Objects.equals(this.requiredSkillsJson, requiredSkillsJson)
+                    && Objects.equals(this.location, location);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * JobRecommendationEngine.java
+ * Top-K job selection for candidate recommendations.
+ * Scores a candidate against every job and keeps only the K best in a bounded
+ * min-heap; large catalogs are split across cores with fork/join.
+ */
+
+package hiringSystem.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import hiringSystem.service.JobMatchScorer.CandidateProfile;
+import hiringSystem.service.JobMatchScorer.JobProfile;
+
+@Component
+public class JobRecommendationEngine {
+
+    /** Marks a job that has no stored score and must be scored */
+    public static final int UNSCORED = -1;
+
+    // Below this many jobs per task, scoring is cheaper than forking
+    private static final int SPLIT_THRESHOLD = 4096;
+
+    @Autowired
+    private JobMatchScorer jobMatchScorer;
+
+    /**
+     * Select the k best jobs for a candidate. Entries of scores that are
+     * UNSCORED are computed in place; other entries are used as given.
+     * Ties are broken by the lower job id.
+     *
+     * @param candidate compiled candidate
+     * @param jobs      compiled jobs
+     * @param jobIds    job ids, parallel to jobs
+     * @param scores    stored scores or UNSCORED, parallel to jobs; filled in
+     * @param k         number of jobs to select
+     * @return indices into jobs of the selected jobs, best first
+     */
+    public int[] topK(CandidateProfile candidate, JobProfile[] jobs, long[] jobIds, int[] scores, int k) {
+        if (k <= 0 || jobs.length == 0) {
+            return new int[0];
+        }
+        ScoreTask task = new ScoreTask(candidate, jobs, jobIds, scores, k, 0, jobs.length);
+        TopK best = jobs.length <= SPLIT_THRESHOLD ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+        return best.toSortedIndices();
+    }
+
+    /**
+     * Scores a range of jobs and returns the best k of that range
+     */
+    private final class ScoreTask extends RecursiveTask<TopK> {
+        private final CandidateProfile candidate;
+        private final JobProfile[] jobs;
+        private final long[] jobIds;
+        private final int[] scores;
+        private final int k;
+        private final int from;
+        private final int to;
+
+        ScoreTask(CandidateProfile candidate, JobProfile[] jobs, long[] jobIds, int[] scores, int k, int from,
+                int to) {
+            this.candidate = candidate;
+            this.jobs = jobs;
+            this.jobIds = jobIds;
+            this.scores = scores;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                TopK best = new TopK(k, scores, jobIds);
+                for (int i = from; i < to; i++) {
+                    if (scores[i] == UNSCORED) {
+                        scores[i] = jobMatchScorer.score(candidate, jobs[i]);
+                    }
+                    best.offer(i);
+                }
+                return best;
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(candidate, jobs, jobIds, scores, k, from, mid);
+            ScoreTask right = new ScoreTask(candidate, jobs, jobIds, scores, k, mid, to);
+            left.fork();
+            TopK best = right.compute();
+            best.merge(left.join());
+            return best;
+        }
+    }
+
+    /**
+     * Bounded min-heap of job indices; the root is the worst job kept so far
+     */
+    private static final class TopK {
+        private final int[] heap;
+        private final int[] scores;
+        private final long[] jobIds;
+        private int size;
+
+        TopK(int k, int[] scores, long[] jobIds) {
+            this.heap = new int[k];
+            this.scores = scores;
+            this.jobIds = jobIds;
+        }
+
+        void offer(int index) {
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(size++);
+            } else if (better(index, heap[0])) {
+                heap[0] = index;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+        }
+
+        int[] toSortedIndices() {
+            int[] sorted = new int[size];
+            TopK copy = new TopK(heap.length, scores, jobIds);
+            copy.merge(this);
+            // Pop the worst first and fill from the back
+            for (int i = size - 1; i >= 0; i--) {
+                sorted[i] = copy.heap[0];
+                copy.heap[0] = copy.heap[--copy.size];
+                copy.siftDown(0);
+            }
+            return sorted;
+        }
+
+        private boolean better(int a, int b) {
+            return scores[a] != scores[b] ? scores[a] > scores[b] : jobIds[a] < jobIds[b];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(heap[parent], heap[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int right = left + 1;
+                int worst = right < size && better(heap[left], heap[right]) ? right : left;
+                if (!better(heap[i], heap[worst])) {
+                    break;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
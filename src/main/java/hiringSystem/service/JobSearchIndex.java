@@ -0,0 +1,283 @@
+/**
+ * JobSearchIndex.java
+ * In-memory inverted index over job postings used by the candidate job search.
+ * Maps field-qualified tokens to sorted posting lists of job ids so that
+ * searches intersect posting lists instead of scanning the jobs table.
+ */
+
+package hiringSystem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import hiringSystem.model.JobInfo;
+import hiringSystem.repository.JobInfoRepository;
+
+@Component
+public class JobSearchIndex {
+
+    private static final String TEXT = "text:";
+    private static final String CITY = "city:";
+    private static final String WORK_TYPE = "worktype:";
+    private static final String SALARY = "salary:";
+
+    @Autowired
+    private JobInfoRepository jobInfoRepository;
+
+    // Sorted so keyword tokens can be matched as prefixes with a range scan
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByJob = new HashMap<>();
+    private final PostingList allJobs = new PostingList();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Build the index from the jobs table once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<JobInfo> jobs = jobInfoRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByJob.clear();
+            allJobs.clear();
+            for (JobInfo job : jobs) {
+                addLocked(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or re-index a job posting
+     *
+     * @param job saved job (must have an id)
+     */
+    public void index(JobInfo job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            addLocked(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the index. Blank criteria are ignored; all given criteria must match.
+     * Every keyword token must prefix-match a token of the title or description.
+     *
+     * @param keyword     free text matched against title and description
+     * @param location    city, compared case-insensitively
+     * @param workType    work type, compared case-insensitively
+     * @param salaryRange salary range, compared case-insensitively
+     * @return matching job ids in ascending order
+     */
+    public long[] search(String keyword, String location, String workType, String salaryRange) {
+        lock.readLock().lock();
+        try {
+            List<long[]> lists = new ArrayList<>();
+            for (String token : tokenize(keyword)) {
+                lists.add(prefixUnion(TEXT + token));
+            }
+            if (!isBlank(location)) {
+                lists.add(exact(CITY + normalize(location)));
+            }
+            if (!isBlank(workType)) {
+                lists.add(exact(WORK_TYPE + normalize(workType)));
+            }
+            if (!isBlank(salaryRange)) {
+                lists.add(exact(SALARY + normalize(salaryRange)));
+            }
+            if (lists.isEmpty()) {
+                return allJobs.toArray();
+            }
+            // Intersect smallest lists first so the working set shrinks quickly
+            lists.sort((a, b) -> Integer.compare(a.length, b.length));
+            long[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(JobInfo job) {
+        long id = job.getId();
+        Set<String> terms = new HashSet<>();
+        for (String token : tokenize(job.getTitle())) {
+            terms.add(TEXT + token);
+        }
+        for (String token : tokenize(job.getDescription())) {
+            terms.add(TEXT + token);
+        }
+        if (job.getLocation() != null) {
+            terms.add(CITY + job.getCity());
+        }
+        if (!isBlank(job.getWorkType())) {
+            terms.add(WORK_TYPE + normalize(job.getWorkType()));
+        }
+        if (!isBlank(job.getSalaryRange())) {
+            terms.add(SALARY + normalize(job.getSalaryRange()));
+        }
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new PostingList()).add(id);
+        }
+        termsByJob.put(id, terms);
+        allJobs.add(id);
+    }
+
+    private void removeLocked(Long jobId) {
+        Set<String> terms = termsByJob.remove(jobId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(jobId);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        allJobs.remove(jobId);
+    }
+
+    private long[] exact(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? new long[0] : list.toArray();
+    }
+
+    private long[] prefixUnion(String prefix) {
+        NavigableMap<String, PostingList> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        long[] result = new long[0];
+        for (PostingList list : range.values()) {
+            result = union(result, list.toArray());
+        }
+        return result;
+    }
+
+    static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] union(long[] a, long[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        long[] out = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            out[n++] = a[i++];
+        }
+        while (j < b.length) {
+            out[n++] = b[j++];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Sorted, growable array of job ids. Ids are mostly appended in increasing
+     * order, so inserts are usually O(1).
+     */
+    private static final class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * LegacyResumeMigration.java
+ * Moves resumes saved before the resume store existed out of the
+ * applications.resume_byte column and into the ResumeStore, then clears the
+ * column. Runs once at startup and does nothing when there is nothing to move.
+ */
+
+package hiringSystem.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LegacyResumeMigration {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        Integer legacyColumn = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns "
+                        + "WHERE table_name = 'applications' AND column_name = 'resume_byte'",
+                Integer.class);
+        if (legacyColumn == null || legacyColumn == 0) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM applications WHERE resume_byte IS NOT NULL AND resume_hash IS NULL",
+                Long.class);
+        // One row at a time so only a single resume is in flight
+        for (Long id : ids) {
+            String resumeHash = jdbcTemplate.query(
+                    "SELECT resume_byte FROM applications WHERE id = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream content = rs.getBinaryStream(1)) {
+                            return content != null ? resumeStore.store(content) : null;
+                        } catch (IOException e) {
+                            throw new RuntimeException("Failed to read legacy resume " + id, e);
+                        }
+                    },
+                    id);
+            if (resumeHash != null) {
+                // Legacy resumes were always served as PDF
+                jdbcTemplate.update(
+                        "UPDATE applications SET resume_hash = ?, resume_file_type = 'pdf', resume_byte = NULL "
+                                + "WHERE id = ?",
+                        resumeHash, id);
+            }
+        }
+    }
+}
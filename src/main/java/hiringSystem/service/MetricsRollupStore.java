@@ -0,0 +1,203 @@
+/**
+ * MetricsRollupStore.java
+ * Time-series store of recruiters' dashboard metrics in hour, day, week and
+ * month tiers. Every hour the running counters are written once as hourly
+ * buckets and rolled up into the coarser tiers; hourly and daily buckets
+ * older than their retention (metrics.rollup.hour-retention,
+ * metrics.rollup.day-retention) are deleted nightly. A range query reads a
+ * single tier, so its cost depends on the range and tier, not on how much
+ * history is kept. On first start the day, week and month tiers are filled
+ * from the period rows in dashboard_metrics.
+ */
+
+package hiringSystem.service;
+
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import hiringSystem.model.Dashboard;
+import hiringSystem.model.DashboardCounter;
+import hiringSystem.model.MetricsRollup;
+import hiringSystem.repository.DashboardRepository;
+import hiringSystem.repository.MetricsRollupRepository;
+
+@Service
+public class MetricsRollupStore {
+
+    @Autowired
+    private MetricsRollupRepository metricsRollupRepository;
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+
+    @Value("${metrics.rollup.hour-retention:7d}")
+    private Duration hourRetention;
+
+    @Value("${metrics.rollup.day-retention:400d}")
+    private Duration dayRetention;
+
+    /**
+     * Fill the day, week and month tiers from the existing dashboard metrics
+     * the first time the application starts with this feature. Each bucket
+     * takes the totals of its latest row; received applications are the
+     * growth between a recruiter's consecutive rows.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (metricsRollupRepository.count() > 0 || dashboardRepository.count() == 0) {
+            return;
+        }
+        Map<String, MetricsRollup> buckets = new LinkedHashMap<>();
+        Map<Long, Integer> previousTotals = new HashMap<>();
+        for (Dashboard row : dashboardRepository.findAll(Sort.by("metricDate"))) {
+            if (row.getRecruiter() == null || row.getMetricDate() == null) {
+                continue;
+            }
+            Long recruiterId = row.getRecruiter().getUserId();
+            Integer previous = previousTotals.put(recruiterId, row.getTotalApplications());
+            long received = previous != null ? Math.max(row.getTotalApplications() - previous, 0) : 0;
+            for (String period : new String[] { "daily", "weekly", "monthly" }) {
+                Date start = DashboardMetricsJob.periodStart(period, row.getMetricDate());
+                MetricsRollup bucket = buckets.computeIfAbsent(recruiterId + ":" + period + ":" + start.getTime(),
+                        key -> {
+                            MetricsRollup created = new MetricsRollup();
+                            created.setRecruiterId(recruiterId);
+                            created.setTier(tier(period));
+                            created.setBucketStart(start);
+                            return created;
+                        });
+                bucket.setTotalApplications(row.getTotalApplications());
+                bucket.setShortlistedCandidates(row.getShortlistedCandidates());
+                bucket.setNewApplications(bucket.getNewApplications() + received);
+            }
+        }
+        metricsRollupRepository.saveAll(buckets.values());
+    }
+
+    /**
+     * Write the buckets of the hour that just ended
+     */
+    @Scheduled(cron = "0 0 * * * ?") // Hourly
+    @Transactional
+    public void writeLastHour() {
+        Calendar cal = Calendar.getInstance();
+        cal.set(Calendar.MINUTE, 0);
+        cal.set(Calendar.SECOND, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+        cal.add(Calendar.HOUR_OF_DAY, -1);
+        writeHour(cal.getTime());
+    }
+
+    /**
+     * Write every recruiter's bucket for an hour and roll it up
+     *
+     * @param hour start of the hour
+     * @return number of hourly buckets written, 0 if the hour was written before
+     */
+    @Transactional
+    public int writeHour(Date hour) {
+        return metricsRollupRepository.writeHour(hour,
+                DashboardMetricsJob.periodStart("daily", hour),
+                DashboardMetricsJob.periodStart("weekly", hour),
+                DashboardMetricsJob.periodStart("monthly", hour));
+    }
+
+    /**
+     * Delete hourly and daily buckets past their retention; weekly and
+     * monthly buckets are kept
+     */
+    @Scheduled(cron = "0 30 0 * * ?") // Daily, after the midnight jobs
+    @Transactional
+    public void compact() {
+        long now = System.currentTimeMillis();
+        metricsRollupRepository.deleteBefore(MetricsRollup.TIER_HOUR, new Date(now - hourRetention.toMillis()));
+        metricsRollupRepository.deleteBefore(MetricsRollup.TIER_DAY, new Date(now - dayRetention.toMillis()));
+    }
+
+    /**
+     * Bring the current bucket of a tier up to date with a recruiter's
+     * counts, between hourly writes
+     *
+     * @param tier   bucket tier other than hour
+     * @param counts current counts of the recruiter
+     */
+    public void refreshCurrent(String tier, DashboardCounter counts) {
+        metricsRollupRepository.refreshTotals(counts.getRecruiterId(), tier, bucketStart(tier, new Date()),
+                counts.getTotalApplications(), counts.getShortlistedCandidates());
+    }
+
+    /**
+     * Bring the current bucket of a tier up to date with the counts of many
+     * recruiters in one batch
+     *
+     * @param tier   bucket tier other than hour
+     * @param counts one { recruiter user ID, total applications, shortlisted
+     *               candidates } entry per recruiter
+     */
+    public void refreshCurrent(String tier, List<long[]> counts) {
+        metricsRollupRepository.refreshAllTotals(tier, bucketStart(tier, new Date()), counts);
+    }
+
+    /**
+     * Get a recruiter's buckets of one tier in a time range
+     *
+     * @param recruiterId user ID of the recruiter
+     * @param tier        bucket tier
+     * @param from        earliest bucket start, inclusive
+     * @param to          latest bucket start, inclusive
+     * @return buckets in time order
+     */
+    public List<MetricsRollup> getRange(Long recruiterId, String tier, Date from, Date to) {
+        return metricsRollupRepository.findByRecruiterIdAndTierAndBucketStartBetweenOrderByBucketStart(
+                recruiterId, tier, from, to);
+    }
+
+    /**
+     * Tier of a dashboard period name
+     *
+     * @param period hourly, daily, weekly or monthly
+     * @return bucket tier
+     */
+    public static String tier(String period) {
+        switch (period.toLowerCase()) {
+            case "hourly":
+                return MetricsRollup.TIER_HOUR;
+            case "daily":
+                return MetricsRollup.TIER_DAY;
+            case "weekly":
+                return MetricsRollup.TIER_WEEK;
+            case "monthly":
+                return MetricsRollup.TIER_MONTH;
+            default:
+                throw new IllegalArgumentException("Invalid period. Supported values: hourly, daily, weekly, monthly");
+        }
+    }
+
+    private static Date bucketStart(String tier, Date now) {
+        switch (tier) {
+            case MetricsRollup.TIER_DAY:
+                return DashboardMetricsJob.periodStart("daily", now);
+            case MetricsRollup.TIER_WEEK:
+                return DashboardMetricsJob.periodStart("weekly", now);
+            case MetricsRollup.TIER_MONTH:
+                return DashboardMetricsJob.periodStart("monthly", now);
+            default:
+                throw new IllegalArgumentException("Invalid tier: " + tier);
+        }
+    }
+}
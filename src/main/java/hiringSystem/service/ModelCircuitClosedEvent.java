@@ -0,0 +1,25 @@
+/**
+ * ModelCircuitClosedEvent.java
+ * Published when a model endpoint's circuit closes again after an outage.
+ */
+
+package hiringSystem.service;
+
+public class ModelCircuitClosedEvent {
+
+    private final ModelService service;
+    private final String path;
+
+    public ModelCircuitClosedEvent(ModelService service, String path) {
+        this.service = service;
+        this.path = path;
+    }
+
+    public ModelService getService() {
+        return service;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
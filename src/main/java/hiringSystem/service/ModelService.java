@@ -0,0 +1,39 @@
+/**
+ * ModelService.java
+ * The Flask model services the backend calls, with their default base URLs
+ * and read timeouts. Each can be overridden with model.<name>.* properties.
+ */
+
+package hiringSystem.service;
+
+import java.time.Duration;
+
+public enum ModelService {
+    HIRING("hiring", "http://localhost:5000", Duration.ofSeconds(30)),
+    RESUME("resume", "http://localhost:5001", Duration.ofSeconds(30)),
+    BIAS("bias", "http://localhost:5002", Duration.ofSeconds(10)),
+    WORKFORCE("workforce", "http://localhost:5003", Duration.ofSeconds(30)),
+    CHATBOT("chatbot", "http://localhost:5004", Duration.ofSeconds(20));
+
+    private final String serviceName;
+    private final String defaultUrl;
+    private final Duration defaultReadTimeout;
+
+    ModelService(String serviceName, String defaultUrl, Duration defaultReadTimeout) {
+        this.serviceName = serviceName;
+        this.defaultUrl = defaultUrl;
+        this.defaultReadTimeout = defaultReadTimeout;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getDefaultUrl() {
+        return defaultUrl;
+    }
+
+    public Duration getDefaultReadTimeout() {
+        return defaultReadTimeout;
+    }
+}
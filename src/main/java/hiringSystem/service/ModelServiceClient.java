@@ -0,0 +1,356 @@
+/**
+ * ModelServiceClient.java
+ * HTTP client layer for the Flask model services.
+ * Each service gets its own pooled, keep-alive connection manager with
+ * connect and read timeouts, and each endpoint a bulkhead that bounds the
+ * number of concurrent calls, so a slow model cannot tie up the threads and
+ * connections other models need. Each endpoint also has a circuit breaker that
+ * fails fast with ModelUnavailableException while the endpoint is down.
+ * Pool, bulkhead and circuit state are published as Micrometer metrics.
+ * postReactive offers the same endpoints over a non-blocking WebClient for
+ * callers that must not hold a thread while a model is working.
+ */
+
+package hiringSystem.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Component
+public class ModelServiceClient {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<ModelService, Pool> pools = new EnumMap<>(ModelService.class);
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (ModelService service : ModelService.values()) {
+            pools.put(service, new Pool(service));
+        }
+    }
+
+    /**
+     * POST a request body to a model endpoint
+     *
+     * @param service      model service to call
+     * @param path         endpoint path, e.g. "/match_skills"
+     * @param request      request body or HttpEntity
+     * @param responseType response body type
+     * @return response entity
+     */
+    public <T> ResponseEntity<T> post(ModelService service, String path, Object request, Class<T> responseType) {
+        Pool pool = pools.get(service);
+        return call(service, path, () -> pool.restTemplate.postForEntity(pool.url(path), request, responseType));
+    }
+
+    /**
+     * Exchange a request with a model endpoint
+     *
+     * @param service       model service to call
+     * @param path          endpoint path
+     * @param method        HTTP method
+     * @param requestEntity request headers and body
+     * @param responseType  response body type
+     * @return response entity
+     */
+    public <T> ResponseEntity<T> exchange(ModelService service, String path, HttpMethod method,
+            HttpEntity<?> requestEntity, Class<T> responseType) {
+        Pool pool = pools.get(service);
+        return call(service, path,
+                () -> pool.restTemplate.exchange(pool.url(path), method, requestEntity, responseType));
+    }
+
+    /**
+     * Exchange a request with a model endpoint, reading a generic response type
+     *
+     * @param service       model service to call
+     * @param path          endpoint path
+     * @param method        HTTP method
+     * @param requestEntity request headers and body
+     * @param responseType  response body type
+     * @return response entity
+     */
+    public <T> ResponseEntity<T> exchange(ModelService service, String path, HttpMethod method,
+            HttpEntity<?> requestEntity, ParameterizedTypeReference<T> responseType) {
+        Pool pool = pools.get(service);
+        return call(service, path,
+                () -> pool.restTemplate.exchange(pool.url(path), method, requestEntity, responseType));
+    }
+
+    /**
+     * Current circuit state of a model endpoint
+     *
+     * @param service model service
+     * @param path    endpoint path
+     * @return circuit state; CLOSED for endpoints not called yet
+     */
+    public CircuitBreaker.State circuitState(ModelService service, String path) {
+        Endpoint endpoint = endpoints.get(service.getServiceName() + path);
+        return endpoint != null ? endpoint.circuitBreaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * POST a request body to a model endpoint without blocking. The call
+     * goes through the same circuit breaker and bulkhead as the blocking
+     * methods, but a full bulkhead rejects the call at once instead of
+     * waiting for a permit.
+     *
+     * @param service      model service to call
+     * @param path         endpoint path, e.g. "/generate_question"
+     * @param request      request body
+     * @param responseType response body type
+     * @return Mono emitting the response body when the call completes
+     */
+    public <T> Mono<T> postReactive(ModelService service, String path, Object request, Class<T> responseType) {
+        Pool pool = pools.get(service);
+        return Mono.defer(() -> {
+            Endpoint endpoint = endpoint(service, path);
+            long permit = endpoint.circuitBreaker.tryAcquire();
+            if (permit == CircuitBreaker.NO_PERMIT) {
+                return Mono.error(new ModelUnavailableException("Model endpoint " + endpoint.name + " is unavailable"));
+            }
+            if (!endpoint.permits.tryAcquire()) {
+                endpoint.circuitBreaker.onIgnored(permit);
+                endpoint.rejected.increment();
+                return Mono.error(new RuntimeException("Too many concurrent calls to model endpoint " + endpoint.name));
+            }
+            return pool.webClient.post()
+                    .uri(path)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .doOnSuccess(response -> endpoint.circuitBreaker.onSuccess(permit))
+                    .doOnError(e -> {
+                        // Connection failures, timeouts and 5xx responses count against the circuit
+                        if (e instanceof WebClientRequestException
+                                || e instanceof WebClientResponseException response
+                                        && response.getStatusCode().is5xxServerError()) {
+                            endpoint.circuitBreaker.onFailure(permit);
+                        } else {
+                            endpoint.circuitBreaker.onIgnored(permit);
+                        }
+                    })
+                    .doOnCancel(() -> endpoint.circuitBreaker.onIgnored(permit))
+                    .doFinally(signal -> endpoint.permits.release());
+        });
+    }
+
+    private Endpoint endpoint(ModelService service, String path) {
+        return endpoints.computeIfAbsent(service.getServiceName() + path, key -> new Endpoint(service, path));
+    }
+
+    private <T> T call(ModelService service, String path, Supplier<T> request) {
+        Endpoint endpoint = endpoint(service, path);
+        long permit = endpoint.circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.NO_PERMIT) {
+            throw new ModelUnavailableException("Model endpoint " + endpoint.name + " is unavailable");
+        }
+        try {
+            endpoint.acquire();
+        } catch (RuntimeException e) {
+            endpoint.circuitBreaker.onIgnored(permit);
+            throw e;
+        }
+        try {
+            T response = request.get();
+            endpoint.circuitBreaker.onSuccess(permit);
+            return response;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            // Connection failures, timeouts and 5xx responses count against the circuit
+            endpoint.circuitBreaker.onFailure(permit);
+            throw e;
+        } catch (RuntimeException e) {
+            endpoint.circuitBreaker.onIgnored(permit);
+            throw e;
+        } finally {
+            endpoint.permits.release();
+        }
+    }
+
+    private String property(ModelService service, String key) {
+        return "model." + service.getServiceName() + "." + key;
+    }
+
+    private int intProperty(ModelService service, String key, int defaultValue) {
+        return environment.getProperty(property(service, key), Integer.class, defaultValue);
+    }
+
+    private Duration duration(ModelService service, String key, Duration defaultValue) {
+        String value = environment.getProperty(property(service, key));
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        for (Pool pool : pools.values()) {
+            pool.httpClient.close();
+            pool.connectionProvider.dispose();
+        }
+    }
+
+    /**
+     * Connection pools, RestTemplate and WebClient of one model service
+     */
+    private final class Pool {
+        private final String baseUrl;
+        private final CloseableHttpClient httpClient;
+        private final RestTemplate restTemplate;
+        private final ConnectionProvider connectionProvider;
+        private final WebClient webClient;
+
+        Pool(ModelService service) {
+            baseUrl = environment.getProperty(property(service, "url"), service.getDefaultUrl())
+                    .replaceAll("/+$", "");
+            int maxConnections = intProperty(service, "max-connections", 20);
+            Duration connectTimeout = duration(service, "connect-timeout", Duration.ofSeconds(2));
+            Duration readTimeout = duration(service, "read-timeout", service.getDefaultReadTimeout());
+
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder
+                    .create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnections)
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.of(connectTimeout))
+                            .setSocketTimeout(Timeout.of(readTimeout))
+                            .setTimeToLive(TimeValue.ofMinutes(5))
+                            .build())
+                    .build();
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            // Waiting for a pooled connection counts against the connect timeout
+                            .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                            .setResponseTimeout(Timeout.of(readTimeout))
+                            .build())
+                    .evictIdleConnections(TimeValue.ofSeconds(30))
+                    .evictExpiredConnections()
+                    .build();
+            restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "model-" + service.getServiceName())
+                    .bindTo(meterRegistry);
+
+            // Non-blocking client with the same limits, for postReactive
+            connectionProvider = ConnectionProvider.builder("model-" + service.getServiceName())
+                    .maxConnections(maxConnections)
+                    .pendingAcquireTimeout(connectTimeout)
+                    .maxIdleTime(Duration.ofSeconds(30))
+                    .maxLifeTime(Duration.ofMinutes(5))
+                    .build();
+            HttpClient reactiveClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                    .responseTimeout(readTimeout);
+            webClient = WebClient.builder()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(reactiveClient))
+                    .build();
+        }
+
+        String url(String path) {
+            return baseUrl + path;
+        }
+    }
+
+    /**
+     * Bulkhead and circuit breaker of one endpoint. Callers wait up to the
+     * configured time for a bulkhead permit and are rejected after that.
+     */
+    private final class Endpoint {
+        private final Semaphore permits;
+        private final Duration maxWait;
+        private final Counter rejected;
+        private final CircuitBreaker circuitBreaker;
+        private final String name;
+
+        Endpoint(ModelService service, String path) {
+            permits = new Semaphore(intProperty(service, "max-concurrent-calls", 16), true);
+            maxWait = duration(service, "bulkhead-wait", Duration.ofSeconds(2));
+            name = service.getServiceName() + path;
+            circuitBreaker = new CircuitBreaker(
+                    intProperty(service, "circuit-window", 20),
+                    intProperty(service, "circuit-min-calls", 10),
+                    intProperty(service, "circuit-failure-threshold", 50),
+                    duration(service, "circuit-open-duration", Duration.ofSeconds(30)),
+                    () -> eventPublisher.publishEvent(new ModelCircuitClosedEvent(service, path)));
+            Gauge.builder("model.bulkhead.available", permits, Semaphore::availablePermits)
+                    .tag("service", service.getServiceName())
+                    .tag("endpoint", path)
+                    .register(meterRegistry);
+            rejected = Counter.builder("model.bulkhead.rejected")
+                    .tag("service", service.getServiceName())
+                    .tag("endpoint", path)
+                    .register(meterRegistry);
+            Gauge.builder("model.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("0 = closed, 1 = half-open, 2 = open")
+                    .tag("service", service.getServiceName())
+                    .tag("endpoint", path)
+                    .register(meterRegistry);
+        }
+
+        void acquire() {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted waiting for model endpoint " + name, e);
+            }
+            if (!acquired) {
+                rejected.increment();
+                throw new RuntimeException("Too many concurrent calls to model endpoint " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * ModelUnavailableException.java
+ * Thrown when a model endpoint is not called because its circuit is open.
+ */
+
+package hiringSystem.service;
+
+public class ModelUnavailableException extends RuntimeException {
+
+    public ModelUnavailableException(String message) {
+        super(message);
+    }
+}
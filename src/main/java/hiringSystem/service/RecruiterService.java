@@ -6,6 +6,7 @@
 package hiringSystem.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
@@ -13,29 +14,28 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hiringSystem.model.*;
 
 import hiringSystem.repository.*;
+import hiringSystem.security.AuthenticatedUser;
+import hiringSystem.security.PrincipalCache;
 
 import java.io.IOException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -73,7 +73,28 @@ public class RecruiterService {
     private UserRoleRepository userRoleRepository;
 
     @Autowired
-    private RestTemplate restTemplate; // For API calls
+    private ModelServiceClient modelServiceClient; // For API calls
+
+    @Autowired
+    private BatchScreeningService batchScreeningService;
+
+    @Autowired
+    private FairnessAnalytics fairnessAnalytics;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private MetricsRollupStore metricsRollupStore;
+
+    @Autowired
+    private DashboardEventHub dashboardEventHub;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -81,6 +102,9 @@ public class RecruiterService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
     /**
      * To Regiseter new recruiter
      * 
@@ -127,13 +151,12 @@ public class RecruiterService {
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
             throw new RuntimeException("No authenticated recruiter found");
         }
-        String email = auth.getName(); // Email is the principal (username)
-        UserRole userRole = userRoleRepository.findByEmail(email);
-        if (userRole == null) {
-            throw new RuntimeException("Recruiter not found for email: " + email);
+        // The JWT filter has already resolved the user's id, so one profile lookup is enough
+        if (!(auth.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new RuntimeException("No authenticated recruiter found");
         }
-        return recruiterProfileRepository.findByUser(userRole)
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found for email: " + email));
+        return recruiterProfileRepository.findById(user.getUserId())
+                .orElseThrow(() -> new RuntimeException("Recruiter profile not found for email: " + user.getEmail()));
     }
 
     /**
@@ -185,7 +208,9 @@ public class RecruiterService {
     public JobInfo postJob(JobInfo job) {
         RecruiterProfile recruiter = getCurrentRecruiter();
         job.setRecruiter(recruiter);
-        return jobInfoRepository.save(job);
+        JobInfo savedJob = jobInfoRepository.save(job);
+        jobSearchIndex.index(savedJob);
+        return savedJob;
     }
 
     /**
@@ -211,6 +236,58 @@ public class RecruiterService {
         return applicationsRepository.findByJobId(jobId);
     }
 
+    /**
+     * Start re-screening every resume submitted to one of the recruiter's
+     * jobs with the batch screening model
+     *
+     * @param jobId job id
+     * @return progress of the re-screening
+     */
+    public RescreenProgress rescreenJob(Long jobId) {
+        RecruiterProfile recruiter = getCurrentRecruiter();
+        jobInfoRepository.findByIdAndRecruiter(jobId, recruiter)
+                .orElseThrow(() -> new RuntimeException("Job not found or not owned by recruiter"));
+        return batchScreeningService.rescreenJob(jobId);
+    }
+
+    /**
+     * Get the progress of the last re-screening of one of the recruiter's jobs
+     *
+     * @param jobId job id
+     * @return Optional containing the progress, empty if the job was never
+     *         re-screened
+     */
+    public Optional<RescreenProgress> getRescreenProgress(Long jobId) {
+        RecruiterProfile recruiter = getCurrentRecruiter();
+        jobInfoRepository.findByIdAndRecruiter(jobId, recruiter)
+                .orElseThrow(() -> new RuntimeException("Job not found or not owned by recruiter"));
+        return batchScreeningService.getProgress(jobId);
+    }
+
+    /**
+     * Get the fairness aggregate of the bias results of one of the
+     * recruiter's jobs
+     *
+     * @param jobId job id
+     * @return fairness summary
+     */
+    public Map<String, Object> getJobFairness(Long jobId) {
+        RecruiterProfile recruiter = getCurrentRecruiter();
+        jobInfoRepository.findByIdAndRecruiter(jobId, recruiter)
+                .orElseThrow(() -> new RuntimeException("Job not found or not owned by recruiter"));
+        return fairnessAnalytics.getJobFairness(jobId);
+    }
+
+    /**
+     * Get the fairness aggregate of the bias results of all the recruiter's
+     * jobs
+     *
+     * @return fairness summary
+     */
+    public Map<String, Object> getFairness() {
+        return fairnessAnalytics.getRecruiterFairness(getCurrentRecruiter().getUserId());
+    }
+
     /**
      * Get all applications for the current recruiter
      * 
@@ -230,8 +307,9 @@ public class RecruiterService {
     public WorkforcePrediction generatePrediction(MultipartFile csvFile) {
         RecruiterProfile recruiter = getCurrentRecruiter();
         try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    "http://localhost:5000/predict",
+            ResponseEntity<Map<String, Object>> response = modelServiceClient.exchange(
+                    ModelService.HIRING,
+                    "/predict",
                     HttpMethod.POST,
                     createMultipartRequest(csvFile),
                     new ParameterizedTypeReference<Map<String, Object>>() {
@@ -340,8 +418,9 @@ public class RecruiterService {
 
         HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
 
-        ResponseEntity<Map> response = restTemplate.exchange(
-                "http://localhost:5003/predict_workforce",
+        ResponseEntity<Map> response = modelServiceClient.exchange(
+                ModelService.WORKFORCE,
+                "/predict_workforce",
                 HttpMethod.POST,
                 requestEntity,
                 Map.class);
@@ -376,6 +455,22 @@ public class RecruiterService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Update the status of an application
+     *
+     * @param application the application
+     * @param status      new status
+     * @return updated application
+     */
+    @Transactional
+    public Applications updateApplicationStatus(Applications application, String status) {
+        String previousStatus = application.getStatus();
+        application.setStatus(status);
+        Applications saved = applicationsRepository.save(application);
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(saved, previousStatus, status));
+        return saved;
+    }
+
     /**
      * Get dashboard metrics for the current recruiter
      * 
@@ -395,58 +490,15 @@ public class RecruiterService {
     public void generateDashboardMetrics(String period) {
         RecruiterProfile recruiter = getCurrentRecruiter();
         Long recruiterId = recruiter.getUser().getId();
-        Dashboard metrics;
 
         // Determine period start for uniqueness
-        Date now = new Date();
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(now);
-        switch (period.toLowerCase()) {
-            case "daily":
-                cal.set(Calendar.HOUR_OF_DAY, 0);
-                cal.set(Calendar.MINUTE, 0);
-                cal.set(Calendar.SECOND, 0);
-                cal.set(Calendar.MILLISECOND, 0);
-                break;
-            case "weekly":
-                cal.set(Calendar.DAY_OF_WEEK, cal.getFirstDayOfWeek());
-                cal.set(Calendar.HOUR_OF_DAY, 0);
-                cal.set(Calendar.MINUTE, 0);
-                cal.set(Calendar.SECOND, 0);
-                cal.set(Calendar.MILLISECOND, 0);
-                break;
-            case "monthly":
-                cal.set(Calendar.DAY_OF_MONTH, 1);
-                cal.set(Calendar.HOUR_OF_DAY, 0);
-                cal.set(Calendar.MINUTE, 0);
-                cal.set(Calendar.SECOND, 0);
-                cal.set(Calendar.MILLISECOND, 0);
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid period: " + period);
-        }
-        Date periodStart = cal.getTime();
-
-        // Check if metrics exist for this period
-        Optional<Dashboard> existingMetrics = dashboardRepository.findByRecruiterUserIdAndMetricDate(recruiterId,
-                periodStart);
-        if (existingMetrics.isPresent()) {
-            metrics = existingMetrics.get();
-        } else {
-            metrics = new Dashboard();
-            metrics.setRecruiter(recruiter);
-            metrics.setMetricDate(periodStart);
-        }
+        Date periodStart = DashboardMetricsJob.periodStart(period, new Date());
 
-        List<Applications> applications = applicationsRepository.findByJob_RecruiterUserId(recruiterId);
-        metrics.setTotalApplications(applications.size());
-
-        long shortlisted = applications.stream()
-                .filter(app -> "Shortlisted".equals(app.getStatus()))
-                .count();
-        metrics.setShortlistedCandidates((int) shortlisted);
-
-        dashboardRepository.save(metrics);
+        // Same upsert as the scheduled job, so the two never write a period twice
+        DashboardCounter counts = dashboardCounters.getCounts(recruiterId);
+        dashboardRepository.upsertAll(List.<long[]>of(new long[] { recruiterId, counts.getTotalApplications(),
+                counts.getShortlistedCandidates() }), periodStart);
+        metricsRollupStore.refreshCurrent(MetricsRollupStore.tier(period), counts);
 
         auditLogRepository.save(new AuditLog(
                 recruiter.getUser().getEmail(),
@@ -468,16 +520,35 @@ public class RecruiterService {
         if (period == null) {
             return dashboardRepository.findByRecruiterUserId(recruiterId);
         }
-        switch (period.toLowerCase()) {
-            case "daily":
-                return dashboardRepository.findDailyMetricsByRecruiterUserId(recruiterId);
-            case "weekly":
-                return dashboardRepository.findWeeklyMetricsByRecruiterUserId(recruiterId);
-            case "monthly":
-                return dashboardRepository.findMonthlyMetricsByRecruiterUserId(recruiterId);
-            default:
-                throw new IllegalArgumentException("Invalid period. Supported values: daily, weekly, monthly");
-        }
+        // Each period is read from its own rollup tier
+        return metricsRollupStore.getRange(recruiterId, MetricsRollupStore.tier(period), new Date(0), new Date())
+                .stream()
+                .map(bucket -> new Dashboard(null, recruiter, (int) bucket.getTotalApplications(),
+                        (int) bucket.getShortlistedCandidates(), bucket.getBucketStart()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Open a live dashboard stream for the current recruiter
+     *
+     * @return emitter sending an update whenever the recruiter's application
+     *         counts change or a screening completes
+     */
+    public SseEmitter streamDashboard() {
+        return dashboardEventHub.emitter(getCurrentRecruiter().getUserId());
+    }
+
+    /**
+     * Get the metrics history of the current recruiter in a time range
+     *
+     * @param period hourly, daily, weekly or monthly
+     * @param from   earliest bucket start, inclusive
+     * @param to     latest bucket start, inclusive
+     * @return metrics buckets of the period's tier in time order
+     */
+    public List<MetricsRollup> getDashboardHistory(String period, Date from, Date to) {
+        RecruiterProfile recruiter = getCurrentRecruiter();
+        return metricsRollupStore.getRange(recruiter.getUser().getId(), MetricsRollupStore.tier(period), from, to);
     }
 
     /**
@@ -520,42 +591,9 @@ public class RecruiterService {
                 role));
         recruiterProfileRepository.delete(recruiter);
         userRoleRepository.delete(userRole);
+        principalCache.invalidate(email);
     }
 
-    @Scheduled(cron = "0 0 0 * * ?") // Daily at midnight
-    public void autoGenerateDailyMetrics() {
-        List<RecruiterProfile> recruiters = recruiterProfileRepository.findAll();
-        for (RecruiterProfile recruiter : recruiters) {
-            SecurityContextHolder.getContext().setAuthentication(
-                    new UsernamePasswordAuthenticationToken(recruiter.getUser().getEmail(), null,
-                            Collections.emptyList()));
-            generateDashboardMetrics("daily");
-        }
-    }
-
-    @Scheduled(cron = "0 0 0 * * MON") // Weekly on Monday at midnight
-    public void autoGenerateWeeklyMetrics() {
-        List<RecruiterProfile> recruiters = recruiterProfileRepository.findAll();
-        for (RecruiterProfile recruiter : recruiters) {
-            SecurityContextHolder.getContext().setAuthentication(
-                    new UsernamePasswordAuthenticationToken(recruiter.getUser().getEmail(), null,
-                            Collections.emptyList()));
-            generateDashboardMetrics("weekly");
-        }
-    }
-
-    @Scheduled(cron = "0 0 0 1 * ?") // Monthly on the 1st at midnight
-    public void autoGenerateMonthlyMetrics() {
-        List<RecruiterProfile> recruiters = recruiterProfileRepository.findAll();
-        for (RecruiterProfile recruiter : recruiters) {
-            SecurityContextHolder.getContext().setAuthentication(
-                    new UsernamePasswordAuthenticationToken(recruiter.getUser().getEmail(), null,
-                            Collections.emptyList()));
-            generateDashboardMetrics("monthly");
-        }
-    }
-
-    
     /**
      * Get total number of applications
      * 
@@ -0,0 +1,161 @@
+/**
+ * ResumeDownloader.java
+ * Streams stored resumes to HTTP clients without buffering them on the heap.
+ * Supports single byte-range requests and conditional requests (the store key
+ * is a content hash, so it doubles as a strong ETag). Files are handed to
+ * Tomcat's sendfile when the connector supports it, and otherwise copied with
+ * FileChannel.transferTo.
+ */
+
+package hiringSystem.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class ResumeDownloader {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    /**
+     * Write a stored resume to the response, honouring Range, If-None-Match
+     * and If-Range headers
+     *
+     * @param resumeHash key of the stored resume
+     * @param fileType   type of the resume file, used for the content type
+     * @param request    HTTP request
+     * @param response   HTTP response
+     * @throws IOException if the resume cannot be read or written
+     */
+    public void download(String resumeHash, String fileType, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Resource resource = resumeStore.load(resumeHash);
+        if (!resource.exists()) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
+            return;
+        }
+        String etag = "\"" + resumeHash + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return; // 304 already set
+        }
+
+        String filename = "resume." + (fileType != null ? fileType : "pdf");
+        long length = resource.contentLength();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(filename).build().toString());
+        response.setContentType(MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = length > 0 ? requestedRange(request, etag) : null;
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (!resource.isFile()) {
+            writeStream(resource, start, count, response);
+            return;
+        }
+        Path file = resource.getFile().toPath();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file from the kernel after the handler returns
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * The single byte range requested, or null to send the whole file.
+     * Multiple ranges and ranges guarded by a stale If-Range are ignored.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    private void writeStream(Resource resource, long start, long count, HttpServletResponse response)
+            throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            in.skipNBytes(start);
+            byte[] buffer = new byte[8192];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                response.getOutputStream().write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+}
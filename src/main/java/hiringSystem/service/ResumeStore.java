@@ -0,0 +1,39 @@
+/**
+ * ResumeStore.java
+ * Content-addressed storage for resume files. Resumes are keyed by the
+ * SHA-256 of their bytes, so a resume submitted to many jobs is stored once;
+ * applications keep only the key.
+ */
+
+package hiringSystem.service;
+
+import java.io.InputStream;
+
+import org.springframework.core.io.Resource;
+
+public interface ResumeStore {
+
+    /**
+     * Store a resume, streaming it from the given input
+     *
+     * @param content resume content; not closed by the store
+     * @return key of the stored resume (hex SHA-256 of its bytes)
+     */
+    String store(InputStream content);
+
+    /**
+     * Load a stored resume
+     *
+     * @param key key returned by store
+     * @return resource for the resume content
+     */
+    Resource load(String key);
+
+    /**
+     * Check whether a resume is stored
+     *
+     * @param key key returned by store
+     * @return true if the resume exists
+     */
+    boolean exists(String key);
+}
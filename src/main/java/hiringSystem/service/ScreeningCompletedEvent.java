@@ -0,0 +1,31 @@
+/**
+ * ScreeningCompletedEvent.java
+ * Published when the AI screening of an application has been saved.
+ */
+
+package hiringSystem.service;
+
+public class ScreeningCompletedEvent {
+
+    private final Long recruiterId;
+    private final Long applicationId;
+    private final int overallScore;
+
+    public ScreeningCompletedEvent(Long recruiterId, Long applicationId, int overallScore) {
+        this.recruiterId = recruiterId;
+        this.applicationId = applicationId;
+        this.overallScore = overallScore;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public int getOverallScore() {
+        return overallScore;
+    }
+}
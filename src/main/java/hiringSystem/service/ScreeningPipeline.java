@@ -0,0 +1,487 @@
+/**
+ * ScreeningPipeline.java
+ * Asynchronous AI screening of new applications.
+ * applyForJob only persists the application and queues it here; the model
+ * calls then run in parallel on virtual threads and AiData/Bias are written
+ * when they finish. Progress is kept per application for status polling.
+ * If a model call fails or its circuit is open, the stage falls back to the
+ * local scorers and the AiData is marked for re-scoring, which runs once the
+ * model's circuit closes again. A completed interview that was decided from
+ * fallback scores is decided again from the re-scored overall score.
+ */
+
+package hiringSystem.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import hiringSystem.model.AiData;
+import hiringSystem.model.Applications;
+import hiringSystem.model.Bias;
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.RecruiterProfile;
+import hiringSystem.model.ScreeningResult;
+import hiringSystem.model.ScreeningStatus;
+import hiringSystem.model.UserProfile;
+import hiringSystem.repository.AIDataRepository;
+import hiringSystem.repository.ApplicationRepository;
+import hiringSystem.repository.BiasRepository;
+import hiringSystem.repository.ScreeningResultRepository;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ScreeningPipeline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private ApplicationRepository applicationsRepository;
+
+    @Autowired
+    private AIDataRepository aiDataRepository;
+
+    @Autowired
+    private BiasRepository biasRepository;
+
+    @Autowired
+    private ScreeningResultRepository screeningResultRepository;
+
+    @Autowired
+    private ResumeStore resumeStore;
+
+    @Autowired
+    private AiModelClient aiModelClient;
+
+    @Autowired
+    private ApplicationScorer applicationScorer;
+
+    @Autowired
+    private JobMatchScorer jobMatchScorer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FairnessAnalytics fairnessAnalytics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Model calls block on I/O, so each screening and each stage gets its own
+    // virtual thread
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, ScreeningStatus> statuses = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<AiData>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean rescoring = new AtomicBoolean();
+    private final AtomicBoolean rescoreRequested = new AtomicBoolean();
+
+    /**
+     * Queue a saved application for AI screening
+     *
+     * @param applicationId ID of the saved application
+     * @return initial screening status
+     */
+    public ScreeningStatus submit(Long applicationId) {
+        ScreeningStatus status = new ScreeningStatus(applicationId, ScreeningStatus.QUEUED);
+        // Registered before it starts, so concurrent submits run one screening
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        CompletableFuture<AiData> future = start.thenApplyAsync(v -> screen(applicationId, status), executor);
+        CompletableFuture<AiData> registered = inFlight.computeIfAbsent(applicationId, id -> {
+            statuses.put(id, status);
+            return future;
+        });
+        if (registered != future) {
+            ScreeningStatus current = statuses.get(applicationId);
+            return current != null ? current : new ScreeningStatus(applicationId, ScreeningStatus.COMPLETED);
+        }
+        future.whenComplete((aiData, e) -> {
+            inFlight.remove(applicationId, future);
+            if (e == null) {
+                status.setState(ScreeningStatus.COMPLETED);
+                // AiData now answers for completed screenings
+                statuses.remove(applicationId, status);
+                RecruiterProfile recruiter = aiData.getApplication().getJob().getRecruiter();
+                eventPublisher.publishEvent(new ScreeningCompletedEvent(
+                        recruiter != null ? recruiter.getUserId() : null, applicationId, aiData.getOverallScore()));
+            } else {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                status.setError(cause.getMessage());
+                status.setState(ScreeningStatus.FAILED);
+            }
+        });
+        start.complete(null);
+        return status;
+    }
+
+    /**
+     * Get the screening status of an application
+     *
+     * @param applicationId ID of the application
+     * @return Optional containing the status, empty if the application was
+     *         never screened
+     */
+    public Optional<ScreeningStatus> getStatus(Long applicationId) {
+        ScreeningStatus status = statuses.get(applicationId);
+        if (status != null) {
+            return Optional.of(status);
+        }
+        if (aiDataRepository.findByApplicationId(applicationId).isPresent()) {
+            return Optional.of(new ScreeningStatus(applicationId, ScreeningStatus.COMPLETED));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Wait for a queued or running screening of an application to finish
+     *
+     * @param applicationId ID of the application
+     */
+    public void awaitScreening(Long applicationId) {
+        CompletableFuture<AiData> future = inFlight.get(applicationId);
+        if (future != null) {
+            future.exceptionally(e -> null).join();
+        }
+    }
+
+    /**
+     * Run all screening stages for an application and save the result
+     *
+     * @param applicationId ID of the application
+     * @param status        status to report progress to
+     * @return saved AiData
+     */
+    private AiData screen(Long applicationId, ScreeningStatus status) {
+        status.setState(ScreeningStatus.RUNNING);
+        Applications application = loadApplication(applicationId);
+
+        UserProfile candidate = application.getCandidate();
+        JobInfo job = application.getJob();
+
+        CompletableFuture<ScreeningResult> screeningResult = stage(status, "resume",
+                () -> getScreeningResult(application), () -> null);
+        CompletableFuture<Integer> skillMatchScore = stage(status, "skills",
+                () -> aiModelClient.callSkillMatchingAPI(candidate, job),
+                () -> applicationScorer.calculateSkillScore(candidate, job));
+        CompletableFuture<String> biasResult = stage(status, "bias", () -> detectBias(application), () -> null);
+        CompletableFuture.allOf(screeningResult, skillMatchScore, biasResult).join();
+
+        // Re-scoring updates the existing AiData
+        AiData aiData = aiDataRepository.findByApplicationId(applicationId).orElseGet(AiData::new);
+        boolean rescore = aiData.isRescorePending();
+        aiData.setApplication(application);
+        if (screeningResult.join() != null) {
+            aiData.setScreeningResult(screeningResult.join());
+            aiData.setResumeScore(screeningResult.join().getResumeScore());
+        } else {
+            aiData.setResumeScore(jobMatchScorer.score(candidate, job));
+        }
+        aiData.setInterviewScore(applicationScorer.calculateInterviewScore(application));
+        aiData.setSkillMatchScore(skillMatchScore.join());
+        aiData.setBiasDetectionResult(biasResult.join());
+        aiData.setPersonalityScore(applicationScorer.calculatePersonalityScore(application));
+        aiData.setOverallScore(applicationScorer.calculateOverallScore(aiData));
+        aiData.setRescorePending(!status.getFallbackStages().isEmpty());
+        aiData.setAiFeedback(generateAIFeedback(aiData));
+        return new TransactionTemplate(transactionManager).execute(tx -> {
+            AiData saved = aiDataRepository.save(aiData);
+            if (rescore) {
+                redecide(applicationId, saved.getOverallScore());
+            }
+            return saved;
+        });
+    }
+
+    /**
+     * Re-apply the interview decision of a completed interview after its
+     * fallback scores were replaced. Applications still in screening or
+     * review are left alone.
+     *
+     * @param applicationId ID of the application
+     * @param overallScore  re-scored overall score
+     */
+    private void redecide(Long applicationId, int overallScore) {
+        Applications application = applicationsRepository.findById(applicationId)
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        String previousStatus = application.getStatus();
+        if (!"Shortlisted".equals(previousStatus) && !"Rejected".equals(previousStatus)) {
+            return;
+        }
+        String status = applicationScorer.interviewDecision(overallScore);
+        if (!status.equals(previousStatus)) {
+            application.setStatus(status);
+            applicationsRepository.save(application);
+            eventPublisher.publishEvent(ApplicationStatusChangedEvent.of(application, previousStatus, status));
+        }
+    }
+
+    /**
+     * Run one screening stage, using the fallback if the model call fails
+     */
+    private <T> CompletableFuture<T> stage(ScreeningStatus status, String name, Supplier<T> call,
+            Supplier<T> fallback) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                T result = call.get();
+                status.stageCompleted(name);
+                return result;
+            } catch (RuntimeException e) {
+                status.stageFellBack(name);
+                return fallback.get();
+            }
+        }, executor);
+    }
+
+    /**
+     * Re-score every application that was scored with fallbacks, one at a
+     * time so the recovering models are not flooded. A request made while a
+     * pass is running starts another pass once it ends, so applications that
+     * fell back again during the pass are retried after a later circuit close.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rescorePending() {
+        rescoreRequested.set(true);
+        if (!rescoring.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                while (rescoreRequested.getAndSet(false)) {
+                    for (AiData aiData : aiDataRepository.findByRescorePendingTrue()) {
+                        Long applicationId = aiData.getApplication().getId();
+                        submit(applicationId);
+                        awaitScreening(applicationId);
+                    }
+                }
+            } finally {
+                rescoring.set(false);
+            }
+            // Requested between the last check and the release
+            if (rescoreRequested.get()) {
+                rescorePending();
+            }
+        });
+    }
+
+    @EventListener
+    public void onCircuitClosed(ModelCircuitClosedEvent event) {
+        if (event.getService() == ModelService.RESUME || event.getService() == ModelService.BIAS) {
+            rescorePending();
+        }
+    }
+
+    /**
+     * Load an application with the associations the stages read, so they can
+     * be used outside the persistence context
+     *
+     * @param applicationId ID of the application
+     * @return detached Applications object
+     */
+    private Applications loadApplication(Long applicationId) {
+        return new TransactionTemplate(transactionManager).execute(tx -> {
+            Applications application = applicationsRepository.findById(applicationId)
+                    .orElseThrow(() -> new RuntimeException("Application not found"));
+            Hibernate.initialize(application.getCandidate().getSkills());
+            return application;
+        });
+    }
+
+    /**
+     * Get the resume screening result for an application's resume and job,
+     * calling the screening model only if this resume has not been screened
+     * for this job before
+     *
+     * @param application Applications object
+     * @return stored ScreeningResult
+     */
+    public ScreeningResult getScreeningResult(Applications application) {
+        String resumeHash = application.getResumeHash();
+        if (resumeHash == null) {
+            throw new RuntimeException("No resume stored for application " + application.getId());
+        }
+        Long jobId = application.getJob().getId();
+        Optional<ScreeningResult> existing = screeningResultRepository.findByResumeHashAndJobId(resumeHash, jobId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Map<String, Object> response = aiModelClient.callResumeScreeningAPI(
+                resumeStore.load(resumeHash), application.getResumeFileType(), application.getJob());
+        ScreeningResult result = new ScreeningResult();
+        result.setResumeHash(resumeHash);
+        result.setJobId(jobId);
+        applyResponse(result, response);
+        try {
+            return screeningResultRepository.save(result);
+        } catch (DataIntegrityViolationException e) {
+            // Screened concurrently by another application; keep the stored one
+            return screeningResultRepository.findByResumeHashAndJobId(resumeHash, jobId).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Run bias detection for an application and store the result
+     *
+     * @param application Applications object containing application details
+     * @return bias detection result
+     */
+    public String detectBias(Applications application) {
+        return storeBias(application, aiModelClient.callBiasDetectionAPI(application));
+    }
+
+    /**
+     * Run bias detection for an application in the background, with
+     * interview scores the caller has already computed, and store the result
+     *
+     * @param application      Applications object with the candidate's skills loaded
+     * @param interviewScore   interview score of the application
+     * @param personalityScore personality score of the application
+     * @return future bias detection result
+     */
+    public CompletableFuture<String> detectBiasAsync(Applications application, int interviewScore,
+            int personalityScore) {
+        return CompletableFuture.supplyAsync(() -> storeBias(application,
+                aiModelClient.callBiasDetectionAPI(application, interviewScore, personalityScore)), executor);
+    }
+
+    private String storeBias(Applications application, String body) {
+        try {
+            JsonNode jsonNode = MAPPER.readTree(body);
+
+            double biasScoreGender = jsonNode.get("bias_score_gender").asDouble();
+            double biasScoreAge = jsonNode.get("bias_score_age").asDouble();
+            int predictedDecision = jsonNode.get("predicted_decision").asInt();
+            boolean biasDetected = jsonNode.get("bias_detected").asBoolean();
+            Bias result = new Bias(application, biasScoreGender, biasScoreAge, predictedDecision, biasDetected);
+            try {
+                saveBias(result);
+            } catch (DataIntegrityViolationException e) {
+                // First result of the application inserted concurrently; update it instead
+                saveBias(result);
+            }
+
+            return body;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse bias detection API response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Save the bias result of an application, replacing an earlier one, and
+     * count the change in the fairness aggregates in the same transaction.
+     * The earlier result is locked, so concurrent saves each replace the
+     * values the other one wrote.
+     *
+     * @param result new bias result of the application
+     */
+    private void saveBias(Bias result) {
+        Applications application = result.getApplication();
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Optional<Bias> existingBias = biasRepository.findForUpdateByApplicationId(application.getId());
+            Bias bias;
+            Bias previous = null;
+            if (existingBias.isPresent()) {
+                bias = existingBias.get();
+                previous = new Bias(null, bias.getBiasScoreGender(), bias.getBiasScoreAge(),
+                        bias.getPredictedDecision(), bias.isBiasDetected());
+                bias.setBiasScoreGender(result.getBiasScoreGender());
+                bias.setBiasScoreAge(result.getBiasScoreAge());
+                bias.setPredictedDecision(result.getPredictedDecision());
+                bias.setBiasDetected(result.isBiasDetected());
+            } else {
+                bias = new Bias(application, result.getBiasScoreGender(), result.getBiasScoreAge(),
+                        result.getPredictedDecision(), result.isBiasDetected());
+            }
+            biasRepository.saveAndFlush(bias);
+            fairnessAnalytics.recordBias(application, previous, bias);
+        });
+    }
+
+    /**
+     * Generate detailed AI feedback from the stored resume screening result.
+     * AiData saved before screening results were stored is linked to one
+     * here.
+     *
+     * @param aiData AiData object containing AI-generated scores
+     * @return formatted feedback string
+     */
+    public String generateAIFeedback(AiData aiData) {
+        ScreeningResult result = aiData.getScreeningResult();
+        if (result == null) {
+            try {
+                result = getScreeningResult(aiData.getApplication());
+                aiData.setScreeningResult(result);
+            } catch (RuntimeException e) {
+                // Screening model unavailable: report the locally matched skills
+                aiData.setRescorePending(true);
+                Applications application = aiData.getApplication();
+                List<String> matchedSkills = new ArrayList<>(application.getCandidate().getSkills());
+                matchedSkills.retainAll(application.getJob().getRequiredSkills());
+                result = new ScreeningResult(null, application.getJob().getId(), aiData.getResumeScore(), null, 0,
+                        0, matchedSkills);
+            }
+        }
+
+        return String.format(
+                "----- AI Evaluation Summary---\n" +
+                        "Resume Score     : %d/100\n" +
+                        " - Confidence    : %d%%\n" +
+                        " - Relevance     : %d%%\n" +
+                        "Behavioral Score : %d/100\n" +
+                        "Skills Score     : %d/100\n" +
+                        "Matched Skills   : %s",
+                aiData.getResumeScore(),
+                (int) result.getConfidence(),
+                (int) result.getRelevanceScore(),
+                aiData.getInterviewScore(),
+                aiData.getSkillMatchScore(),
+                result.getMatchedSkills());
+    }
+
+    /**
+     * Copy the fields of a resume screening API response into a result
+     *
+     * @param result   ScreeningResult to fill in
+     * @param response one /screen_resume response or /screen_resume_batch entry
+     */
+    static void applyResponse(ScreeningResult result, Map<String, Object> response) {
+        result.setResumeScore(intValue(response.get("resume_score")));
+        result.setPredictedCategory((String) response.get("predicted_category"));
+        result.setConfidence(doubleValue(response.get("confidence")));
+        result.setRelevanceScore(doubleValue(response.get("relevance_score")));
+        result.setMatchedSkills((List<String>) response.get("matched_skills"));
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0; // Default to 0 if null
+    }
+
+    private static double doubleValue(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
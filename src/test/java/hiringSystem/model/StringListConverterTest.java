@@ -0,0 +1,60 @@
+package hiringSystem.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StringListConverterTest {
+
+	private final StringListConverter converter = new StringListConverter();
+
+	@Test
+	void roundTripKeepsValuesAndOrder() {
+		List<String> skills = Arrays.asList("Java", "C++", "say \"hi\"", "", null, "naïve, ü");
+		String json = converter.convertToDatabaseColumn(skills);
+		List<String> loaded = converter.convertToEntityAttribute(json);
+		assertEquals(skills, loaded);
+		assertEquals(json, converter.convertToDatabaseColumn(loaded));
+	}
+
+	@Test
+	void nullAndEmptyMapToEmptyList() {
+		assertEquals("[]", converter.convertToDatabaseColumn(null));
+		assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+		assertTrue(converter.convertToEntityAttribute("").isEmpty());
+		assertTrue(converter.convertToEntityAttribute("[]").isEmpty());
+	}
+
+	@Test
+	void loadedJsonIsWrittenBackUnchanged() {
+		String json = "[ \"Java\",\"SQL\" ]";
+		List<String> loaded = StringListConverter.fromJson(json);
+		assertSame(json, StringListConverter.toJson(loaded));
+		assertEquals(List.of("Java", "SQL"), loaded);
+	}
+
+	@Test
+	void copyIsImmutableAndDetached() {
+		List<String> source = new ArrayList<>(List.of("Java", "SQL"));
+		List<String> copy = StringListConverter.copyOf(source);
+		source.add("Python");
+		assertEquals(List.of("Java", "SQL"), copy);
+		assertEquals("[\"Java\",\"SQL\"]", StringListConverter.toJson(copy));
+		assertSame(copy, StringListConverter.copyOf(copy));
+		assertThrows(UnsupportedOperationException.class, () -> copy.add("Python"));
+		assertTrue(StringListConverter.copyOf(null).isEmpty());
+	}
+
+	@Test
+	void malformedJsonFailsOnFirstAccess() {
+		List<String> list = StringListConverter.fromJson("not json");
+		assertThrows(RuntimeException.class, list::size);
+	}
+}
@@ -0,0 +1,158 @@
+package hiringSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BiasResultCacheTest {
+
+	private BiasResultCache cache;
+	private ModelServiceClient modelServiceClient;
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		modelServiceClient = mock(ModelServiceClient.class);
+		cache = new BiasResultCache();
+		ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "modelServiceClient", modelServiceClient);
+		ReflectionTestUtils.setField(cache, "maxEntries", 2);
+		ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+		cache.registerMetrics();
+	}
+
+	@Test
+	void keyIgnoresMapOrderAndNumberType() {
+		Map<String, Object> hashed = new HashMap<>();
+		hashed.put("Age", 30);
+		hashed.put("Gender", "Female");
+		hashed.put("SkillScore", 75L);
+		hashed.put("Strategy", null);
+		Map<String, Object> ordered = new LinkedHashMap<>();
+		ordered.put("Strategy", null);
+		ordered.put("SkillScore", 75.0);
+		ordered.put("Gender", "Female");
+		ordered.put("Age", 30.0f);
+		assertEquals(BiasResultCache.key(hashed), BiasResultCache.key(ordered));
+		assertEquals(BiasResultCache.key(hashed), BiasResultCache.key(new TreeMap<>(hashed)));
+	}
+
+	@Test
+	void keyDistinguishesValuesAndFields() {
+		String base = BiasResultCache.key(Map.of("Age", 30, "Gender", "Female"));
+		assertNotEquals(base, BiasResultCache.key(Map.of("Age", 31, "Gender", "Female")));
+		assertNotEquals(base, BiasResultCache.key(Map.of("Age", 30, "Gender", "Female ")));
+		assertNotEquals(BiasResultCache.key(Map.of("Age", 30)), BiasResultCache.key(Map.of("Age", "30.0")));
+		assertNotEquals(base, BiasResultCache.key(Map.of("Age", 30, "Sex", "Female")));
+		// Field boundaries cannot be shifted into values
+		assertNotEquals(BiasResultCache.key(Map.of("a", "b=c")), BiasResultCache.key(Map.of("a=b", "c")));
+	}
+
+	@Test
+	void identicalFeaturesShareOneCall() {
+		assertEquals(response("v1"), load(Map.of("Age", 30), "v1"));
+		assertEquals(response("v1"), load(Map.of("Age", 30.0), "v1"));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void errorsAreNotCached() {
+		cache.get(Map.of("Age", 30), () -> {
+			calls.incrementAndGet();
+			return "{\"error\":\"boom\"}";
+		});
+		load(Map.of("Age", 30), "v1");
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void polledVersionChangeDropsCachedResponses() {
+		load(Map.of("Age", 30), "v1");
+		pollReturns("v2");
+		cache.refreshModelVersion();
+		assertEquals(0, cache.size());
+		assertEquals(response("v2"), load(Map.of("Age", 30), "v2"));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void lateResponseFromOldModelIsNeitherCachedNorAdopted() {
+		pollReturns("v2");
+		cache.refreshModelVersion();
+		load(Map.of("Age", 30), "v2");
+		load(Map.of("Age", 40), "v1"); // slow call answered by the old model
+		assertEquals(1, cache.size());
+		load(Map.of("Age", 30), "v2");
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void newVersionSeenInResponseIsConfirmedWithTheService() {
+		load(Map.of("Age", 30), "v1");
+		pollReturns("v2");
+		load(Map.of("Age", 40), "v2");
+		assertEquals(1, cache.size()); // v1 entry dropped, v2 entry kept
+		load(Map.of("Age", 40), "v2");
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void failedPollKeepsTheCache() {
+		load(Map.of("Age", 30), "v1");
+		when(modelServiceClient.exchange(eq(ModelService.BIAS), eq("/model_version"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(Map.class))).thenThrow(new ResourceAccessException("down"));
+		cache.refreshModelVersion();
+		load(Map.of("Age", 30), "v1");
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvicted() {
+		load(Map.of("Age", 1), "v1");
+		load(Map.of("Age", 2), "v1");
+		load(Map.of("Age", 1), "v1");
+		load(Map.of("Age", 3), "v1"); // evicts Age 2
+		assertEquals(2, cache.size());
+		load(Map.of("Age", 1), "v1");
+		load(Map.of("Age", 2), "v1");
+		assertEquals(4, calls.get());
+	}
+
+	private String load(Map<String, Object> features, String version) {
+		return cache.get(features, () -> {
+			calls.incrementAndGet();
+			return response(version);
+		});
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void pollReturns(String version) {
+		when(modelServiceClient.exchange(eq(ModelService.BIAS), eq("/model_version"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(Map.class)))
+				.thenReturn((ResponseEntity) ResponseEntity.ok(Map.of("model_version", version)));
+	}
+
+	private static String response(String version) {
+		return "{\"bias_score_gender\":0.1,\"model_version\":\"" + version + "\"}";
+	}
+}
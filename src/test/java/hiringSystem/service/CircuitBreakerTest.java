@@ -0,0 +1,124 @@
+package hiringSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import hiringSystem.service.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+	private final AtomicInteger closes = new AtomicInteger();
+
+	@Test
+	void opensOnceMinCallsReachTheFailureRate() {
+		CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+		fail(breaker, 3);
+		assertEquals(State.CLOSED, breaker.getState()); // below minCalls
+		succeed(breaker, 1);
+		assertEquals(State.CLOSED, breaker.getState()); // 3 of 4 failed, still below minCalls
+		fail(breaker, 1);
+		assertEquals(State.OPEN, breaker.getState());
+		assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+	}
+
+	@Test
+	void onlyTheWindowCounts() {
+		CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+		fail(breaker, 2);
+		succeed(breaker, 10);
+		fail(breaker, 4); // 4 of the last 10 failed
+		assertEquals(State.CLOSED, breaker.getState());
+		fail(breaker, 1);
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void trialSuccessClosesAndTrialFailureReopens() {
+		CircuitBreaker breaker = breaker(Duration.ZERO);
+		fail(breaker, 5);
+		long trial = breaker.tryAcquire();
+		assertNotEquals(CircuitBreaker.NO_PERMIT, trial);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire()); // one trial at a time
+		breaker.onFailure(trial);
+		assertEquals(State.OPEN, breaker.getState());
+
+		trial = breaker.tryAcquire();
+		breaker.onSuccess(trial);
+		assertEquals(State.CLOSED, breaker.getState());
+		assertEquals(1, closes.get());
+	}
+
+	@Test
+	void ignoredTrialLetsAnotherTrialIn() {
+		CircuitBreaker breaker = breaker(Duration.ZERO);
+		fail(breaker, 5);
+		long trial = breaker.tryAcquire();
+		breaker.onIgnored(trial);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+	}
+
+	@Test
+	void lateCallsDoNotDecideTheTrial() {
+		CircuitBreaker breaker = breaker(Duration.ZERO);
+		long slow = breaker.tryAcquire(); // admitted while closed
+		fail(breaker, 5);
+		long trial = breaker.tryAcquire();
+		assertEquals(State.HALF_OPEN, breaker.getState());
+
+		breaker.onSuccess(slow);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		breaker.onFailure(slow);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		breaker.onIgnored(slow);
+		assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire()); // trial still in flight
+
+		breaker.onSuccess(trial);
+		assertEquals(State.CLOSED, breaker.getState());
+		breaker.onSuccess(trial); // reported twice
+		assertEquals(1, closes.get());
+	}
+
+	@Test
+	void lateFailuresDoNotExtendTheOpenPeriod() throws InterruptedException {
+		CircuitBreaker breaker = breaker(Duration.ofMillis(300));
+		long[] slow = new long[5];
+		for (int i = 0; i < slow.length; i++) {
+			slow[i] = breaker.tryAcquire();
+		}
+		fail(breaker, 5);
+		assertEquals(State.OPEN, breaker.getState());
+		long openedAt = System.nanoTime();
+
+		Thread.sleep(200);
+		for (long permit : slow) {
+			breaker.onFailure(permit);
+		}
+		// Rejected until the original open period ends, not the late failures
+		Thread.sleep(Math.max(0, Duration.ofMillis(350).toNanos() - (System.nanoTime() - openedAt)) / 1_000_000);
+		assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+		assertEquals(State.HALF_OPEN, breaker.getState());
+	}
+
+	private CircuitBreaker breaker(Duration openDuration) {
+		return new CircuitBreaker(10, 5, 50, openDuration, closes::incrementAndGet);
+	}
+
+	private static void fail(CircuitBreaker breaker, int calls) {
+		for (int i = 0; i < calls; i++) {
+			breaker.onFailure(breaker.tryAcquire());
+		}
+	}
+
+	private static void succeed(CircuitBreaker breaker, int calls) {
+		for (int i = 0; i < calls; i++) {
+			breaker.onSuccess(breaker.tryAcquire());
+		}
+	}
+}
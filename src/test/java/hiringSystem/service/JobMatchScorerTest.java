@@ -0,0 +1,182 @@
+package hiringSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import hiringSystem.model.JobInfo;
+import hiringSystem.model.UserProfile;
+
+class JobMatchScorerTest {
+
+	private static final List<List<String>> SKILLS = Arrays.asList(
+			null,
+			List.of(),
+			List.of("Java"),
+			List.of("java"),
+			List.of(" Java", "Java "),
+			List.of("Java", "Java", "SQL"),
+			List.of("Java", "SQL", "Spring", "Docker"),
+			List.of("SQL", "Python", "Python"),
+			manySkills("skill", 70),
+			manySkills("skill", 140));
+
+	private static final List<String> LOCATIONS = Arrays.asList(
+			"Boston, MA", "boston", "BOSTON,MA", "Boston ,MA", "New York, NY", "New York", "", ",MA");
+
+	private static final List<String> EDUCATION = Arrays.asList("PhD", "Master's", "Bachelor's", "High School", "phd");
+
+	private static final List<String> JOB_TYPES = Arrays.asList(
+			"Full-time", "remote", "PART-TIME", "Contract", "hybrid", "Onsite");
+
+	private static final int[] YEARS = { 0, 2, 5, 12 };
+
+	@Test
+	void matchesBaselineScoreOnAllCombinations() {
+		JobMatchScorer scorer = new JobMatchScorer();
+		List<JobInfo> jobs = new ArrayList<>();
+		long id = 1;
+		for (List<String> required : SKILLS) {
+			for (String location : LOCATIONS) {
+				jobs.add(job(id++, location, required));
+			}
+		}
+
+		int compared = 0;
+		for (List<String> skills : SKILLS) {
+			for (String location : LOCATIONS) {
+				for (String education : EDUCATION) {
+					for (String jobType : JOB_TYPES) {
+						for (int years : YEARS) {
+							UserProfile candidate = new UserProfile("Candidate", location, education, years, jobType,
+									"Immediate", skills, null, "Unknown", 1, 30);
+							JobMatchScorer.CandidateProfile compiled = scorer.compile(candidate);
+							for (JobInfo job : jobs) {
+								int expected = baselineScore(candidate, job);
+								assertEquals(expected, scorer.score(candidate, job), () -> describe(candidate, job));
+								assertEquals(expected, scorer.score(compiled, scorer.profile(job)),
+										() -> describe(candidate, job));
+								compared++;
+							}
+						}
+					}
+				}
+			}
+		}
+		assertEquals(SKILLS.size() * LOCATIONS.size() * EDUCATION.size() * JOB_TYPES.size() * YEARS.length
+				* jobs.size(), compared);
+	}
+
+	@Test
+	void skillsInternedAfterCompilingStillMatch() {
+		JobMatchScorer scorer = new JobMatchScorer();
+		UserProfile candidate = new UserProfile("Candidate", "Boston, MA", "PhD", 5, "remote", "Immediate",
+				manySkills("late", 100), null, "Unknown", 1, 30);
+		JobMatchScorer.CandidateProfile compiled = scorer.compile(candidate);
+		// Required skills interned after the candidate was compiled are past its bitset
+		JobInfo job = job(1L, "Boston, MA", manySkills("other", 200));
+		assertEquals(baselineScore(candidate, job), scorer.score(compiled, scorer.profile(job)));
+	}
+
+	@Test
+	void changedJobIsRecompiled() {
+		JobMatchScorer scorer = new JobMatchScorer();
+		UserProfile candidate = new UserProfile("Candidate", "Boston, MA", "PhD", 5, "remote", "Immediate",
+				List.of("Java"), null, "Unknown", 1, 30);
+		JobInfo job = job(1L, "Boston, MA", List.of("Java"));
+		assertEquals(baselineScore(candidate, job), scorer.score(candidate, job));
+
+		job.setRequiredSkills(List.of("Python"));
+		job.setLocation("Denver, CO");
+		assertEquals(baselineScore(candidate, job), scorer.score(candidate, job));
+	}
+
+	@Test
+	void missingEducationAndJobTypeScoreAsOther() {
+		JobMatchScorer scorer = new JobMatchScorer();
+		JobInfo job = job(1L, "Denver, CO", List.of("Java"));
+		UserProfile missing = new UserProfile("Candidate", "Boston, MA", null, 3, null, "Immediate",
+				List.of("Java"), null, "Unknown", 1, 30);
+		UserProfile other = new UserProfile("Candidate", "Boston, MA", "High School", 3, "Onsite", "Immediate",
+				List.of("Java"), null, "Unknown", 1, 30);
+		assertEquals(baselineScore(other, job), scorer.score(missing, job));
+	}
+
+	/**
+	 * The original CandidateService.calculateJobMatchScore, with its location
+	 * and education helpers. It threw on null skills; those are treated as
+	 * empty here, as the scorer does.
+	 */
+	private static int baselineScore(UserProfile candidate, JobInfo job) {
+		int matchScore = 0;
+
+		// Skill matching (40% weight)
+		Set<String> candidateSkills = new HashSet<>(candidate.getSkills() != null ? candidate.getSkills() : List.of());
+		Set<String> requiredSkills = new HashSet<>(job.getRequiredSkills());
+		Set<String> skillIntersection = new HashSet<>(candidateSkills);
+		skillIntersection.retainAll(requiredSkills);
+		double skillMatch = requiredSkills.isEmpty() ? 0 : (double) skillIntersection.size() / requiredSkills.size();
+		matchScore += (int) (skillMatch * 40);
+
+		// Experience matching (30% weight)
+		double experienceMatch = Math.min(candidate.getYearsOfExperience() / 5.0, 1.0);
+		matchScore += (int) (experienceMatch * 30);
+
+		// Location matching (20% weight)
+		int locationScore = baselineLocationScore(candidate, job);
+		matchScore += (int) (locationScore * 0.20);
+
+		// Education matching (10% weight)
+		double educationBonus = switch (candidate.getEducationLevel()) {
+			case "PhD" -> 1.0;
+			case "Master's" -> 0.8;
+			case "Bachelor's" -> 0.6;
+			default -> 0.4;
+		};
+		matchScore += (int) (educationBonus * 10);
+
+		return Math.clamp(matchScore, 0, 100);
+	}
+
+	private static int baselineLocationScore(UserProfile candidate, JobInfo job) {
+		if (candidate.getLocation().split(",")[0].equalsIgnoreCase(job.getLocation().split(",")[0])) {
+			return 100;
+		}
+		return switch (candidate.getPreferredJobTypes().toLowerCase()) {
+			case "full-time" -> 80;
+			case "remote" -> 60;
+			case "part-time" -> 60;
+			case "contract" -> 70;
+			case "hybrid" -> 70;
+			default -> 40;
+		};
+	}
+
+	private static JobInfo job(Long id, String location, List<String> requiredSkills) {
+		JobInfo job = new JobInfo("Engineer", "Description", location, "100k", "Full-time", requiredSkills,
+				List.of(), null, null, null);
+		ReflectionTestUtils.setField(job, "id", id);
+		return job;
+	}
+
+	private static List<String> manySkills(String prefix, int count) {
+		List<String> skills = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			skills.add(prefix + i);
+		}
+		return skills;
+	}
+
+	private static String describe(UserProfile candidate, JobInfo job) {
+		return "candidate " + candidate.getSkills() + " " + candidate.getLocation() + " "
+				+ candidate.getEducationLevel() + " " + candidate.getPreferredJobTypes() + " "
+				+ candidate.getYearsOfExperience() + " vs job " + job.getRequiredSkills() + " " + job.getLocation();
+	}
+}
@@ -0,0 +1,70 @@
+package hiringSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import hiringSystem.model.JobInfo;
+
+class JobSearchIndexTest {
+
+	private JobSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobSearchIndex();
+		index.index(job(3L, "Senior Java Developer", "Spring Boot and PostgreSQL", "Boston, MA", "Full-time", "100k-120k"));
+		index.index(job(1L, "Data Scientist", "Python, C++ and machine learning", "New York, NY", "Remote", "90k-110k"));
+		index.index(job(2L, "Java Engineer", "Backend services in Java", "boston, MA", "Hybrid", "100k-120k"));
+	}
+
+	@Test
+	void blankCriteriaReturnAllJobsInIdOrder() {
+		assertArrayEquals(new long[] { 1, 2, 3 }, index.search(null, "", " ", null));
+	}
+
+	@Test
+	void keywordTokensPrefixMatchTitleAndDescription() {
+		assertArrayEquals(new long[] { 2, 3 }, index.search("jav", null, null, null));
+		assertArrayEquals(new long[] { 3 }, index.search("java spring", null, null, null));
+		assertArrayEquals(new long[] { 1 }, index.search("C++", null, null, null));
+		assertArrayEquals(new long[0], index.search("java python", null, null, null));
+	}
+
+	@Test
+	void fieldCriteriaAreCaseInsensitiveAndCombined() {
+		assertArrayEquals(new long[] { 2, 3 }, index.search(null, " BOSTON ", null, null));
+		assertArrayEquals(new long[] { 2 }, index.search(null, "Boston", "hybrid", null));
+		assertArrayEquals(new long[] { 2, 3 }, index.search("java", null, null, "100K-120K"));
+		assertArrayEquals(new long[0], index.search(null, "Chicago", null, null));
+	}
+
+	@Test
+	void reindexReplacesOldTerms() {
+		index.index(job(3L, "Python Developer", "Django", "Chicago, IL", "Contract", "80k-90k"));
+		assertArrayEquals(new long[] { 2 }, index.search("java", null, null, null));
+		assertArrayEquals(new long[] { 3 }, index.search(null, "chicago", null, null));
+		assertArrayEquals(new long[0], index.search(null, "boston", "full-time", null));
+		assertArrayEquals(new long[] { 1, 2, 3 }, index.search(null, null, null, null));
+	}
+
+	@Test
+	void postingListsMergeSorted() {
+		assertArrayEquals(new long[] { 3, 7 }, JobSearchIndex.intersect(new long[] { 1, 3, 5, 7 }, new long[] { 2, 3, 7, 9 }));
+		assertArrayEquals(new long[] { 1, 2, 3, 5, 7, 9 }, JobSearchIndex.union(new long[] { 1, 3, 5, 7 }, new long[] { 2, 3, 7, 9 }));
+		assertEquals(List.of("c#", "and", "node", "js"), JobSearchIndex.tokenize("C#  and Node.js"));
+	}
+
+	private static JobInfo job(Long id, String title, String description, String location, String workType,
+			String salaryRange) {
+		JobInfo job = new JobInfo(title, description, location, salaryRange, workType, List.of(), List.of(), null,
+				null, null);
+		ReflectionTestUtils.setField(job, "id", id);
+		return job;
+	}
+}
@@ -0,0 +1,190 @@
+package hiringSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ResumeDownloaderTest {
+
+	private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+	@TempDir
+	Path dir;
+
+	private ResumeDownloader downloader;
+	private String key;
+
+	@BeforeEach
+	void setUp() {
+		FileSystemResumeStore store = new FileSystemResumeStore(dir.toString());
+		key = store.store(new ByteArrayInputStream(CONTENT));
+		downloader = downloader(store);
+	}
+
+	@Test
+	void noRangeSendsWholeFile() throws Exception {
+		MockHttpServletResponse response = download(request());
+		assertEquals(200, response.getStatus());
+		assertEquals("bytes", response.getHeader("Accept-Ranges"));
+		assertEquals("\"" + key + "\"", response.getHeader("ETag"));
+		assertEquals("application/pdf", response.getContentType());
+		assertArrayEquals(CONTENT, response.getContentAsByteArray());
+	}
+
+	@Test
+	void singleRangeSendsPartialContent() throws Exception {
+		assertPartial("bytes=2-5", 2, 5);
+		assertPartial("bytes=15-", 15, 19);
+		assertPartial("bytes=-3", 17, 19);
+		assertPartial("bytes=10-1000", 10, 19);
+		assertPartial("bytes=0-0", 0, 0);
+	}
+
+	@Test
+	void rangeStartingPastTheEndIsNotSatisfiable() throws Exception {
+		for (String range : new String[] { "bytes=20-", "bytes=25-30" }) {
+			MockHttpServletResponse response = download(request(range));
+			assertEquals(416, response.getStatus(), range);
+			assertEquals("bytes */20", response.getHeader("Content-Range"), range);
+			assertEquals(0, response.getContentAsByteArray().length, range);
+		}
+	}
+
+	@Test
+	void malformedOrMultipleRangesSendWholeFile() throws Exception {
+		for (String range : new String[] { "bytes=abc", "items=0-5", "bytes=5-2", "bytes=0-1,4-5" }) {
+			MockHttpServletResponse response = download(request(range));
+			assertEquals(200, response.getStatus(), range);
+			assertNull(response.getHeader("Content-Range"), range);
+			assertArrayEquals(CONTENT, response.getContentAsByteArray(), range);
+		}
+	}
+
+	@Test
+	void ifRangeMustMatchTheEtag() throws Exception {
+		MockHttpServletRequest stale = request("bytes=2-5");
+		stale.addHeader("If-Range", "\"other\"");
+		assertEquals(200, download(stale).getStatus());
+
+		MockHttpServletRequest current = request("bytes=2-5");
+		current.addHeader("If-Range", "\"" + key + "\"");
+		assertEquals(206, download(current).getStatus());
+	}
+
+	@Test
+	void matchingIfNoneMatchIsNotModified() throws Exception {
+		MockHttpServletRequest request = request();
+		request.addHeader("If-None-Match", "\"" + key + "\"");
+		MockHttpServletResponse response = download(request);
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void headSendsHeadersOnly() throws Exception {
+		MockHttpServletRequest request = request("bytes=2-5");
+		request.setMethod("HEAD");
+		MockHttpServletResponse response = download(request);
+		assertEquals(206, response.getStatus());
+		assertEquals(4, response.getContentLengthLong());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void sendfileIsUsedWhenSupported() throws Exception {
+		MockHttpServletRequest request = request("bytes=2-5");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		MockHttpServletResponse response = download(request);
+		assertEquals(206, response.getStatus());
+		assertEquals(2L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+		assertEquals(6L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void nonFileResourceIsStreamed() throws Exception {
+		downloader = downloader(new InMemoryStore(CONTENT));
+		MockHttpServletResponse response = download(request("bytes=4-7"));
+		assertEquals(206, response.getStatus());
+		assertArrayEquals(Arrays.copyOfRange(CONTENT, 4, 8), response.getContentAsByteArray());
+	}
+
+	@Test
+	void missingResumeIsNoContent() throws Exception {
+		downloader = downloader(new InMemoryStore(null));
+		assertEquals(204, download(request()).getStatus());
+	}
+
+	private void assertPartial(String range, int start, int end) throws Exception {
+		MockHttpServletResponse response = download(request(range));
+		assertEquals(206, response.getStatus(), range);
+		assertEquals("bytes " + start + "-" + end + "/" + CONTENT.length, response.getHeader("Content-Range"), range);
+		assertEquals(end - start + 1, response.getContentLengthLong(), range);
+		assertArrayEquals(Arrays.copyOfRange(CONTENT, start, end + 1), response.getContentAsByteArray(), range);
+	}
+
+	private MockHttpServletResponse download(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		downloader.download(key, "pdf", request, response);
+		return response;
+	}
+
+	private static MockHttpServletRequest request() {
+		return new MockHttpServletRequest("GET", "/resume");
+	}
+
+	private static MockHttpServletRequest request(String range) {
+		MockHttpServletRequest request = request();
+		request.addHeader("Range", range);
+		return request;
+	}
+
+	private static ResumeDownloader downloader(ResumeStore store) {
+		ResumeDownloader downloader = new ResumeDownloader();
+		ReflectionTestUtils.setField(downloader, "resumeStore", store);
+		return downloader;
+	}
+
+	private static final class InMemoryStore implements ResumeStore {
+		private final byte[] content;
+
+		InMemoryStore(byte[] content) {
+			this.content = content;
+		}
+
+		@Override
+		public String store(InputStream content) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Resource load(String key) {
+			return content != null ? new ByteArrayResource(content) : new ByteArrayResource(new byte[0]) {
+				@Override
+				public boolean exists() {
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public boolean exists(String key) {
+			return content != null;
+		}
+	}
+}